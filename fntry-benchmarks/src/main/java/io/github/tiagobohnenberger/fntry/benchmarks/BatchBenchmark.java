@@ -0,0 +1,78 @@
+package io.github.tiagobohnenberger.fntry.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.github.tiagobohnenberger.fntry.BatchResult;
+import io.github.tiagobohnenberger.fntry.Step;
+import io.github.tiagobohnenberger.fntry.Try;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A batch of parses with {@code Try.mapAll} and {@code Try.mapAllParallel}, against one {@code Try.of} per element and
+ * a hand-written loop with {@code try/catch}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class BatchBenchmark {
+
+    @Param({"10000"})
+    int size;
+
+    List<String> lines;
+
+    @Setup
+    public void setUp() {
+        lines = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            lines.add(String.valueOf(i));
+        }
+    }
+
+    @Benchmark
+    public BatchResult<Integer> mapAll() {
+        return Try.mapAll(lines, Integer::parseInt);
+    }
+
+    @Benchmark
+    public BatchResult<Integer> mapAllParallel() {
+        return Try.mapAllParallel(lines, Integer::parseInt);
+    }
+
+    @Benchmark
+    public List<Step<Integer>> tryOfEach() {
+        List<Step<Integer>> steps = new ArrayList<>(lines.size());
+        for (String line : lines) {
+            steps.add(Try.of(() -> Integer.parseInt(line)));
+        }
+        return steps;
+    }
+
+    @Benchmark
+    public List<Integer> baseline() {
+        List<Integer> values = new ArrayList<>(lines.size());
+        for (String line : lines) {
+            try {
+                values.add(Integer.parseInt(line));
+            } catch (NumberFormatException e) {
+                values.add(null);
+            }
+        }
+        return values;
+    }
+}
@@ -0,0 +1,32 @@
+package io.github.tiagobohnenberger.fntry.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmarks jar.
+ *
+ * <p>Accepts the same arguments as the JMH command line, but always enables the
+ * {@linkplain GCProfiler GC profiler}, so every run reports {@code gc.alloc.rate.norm}
+ * (bytes/op) next to the ns/op score:
+ * <blockquote><pre>
+ *     java -jar target/benchmarks.jar TryBenchmark -rf json
+ * </pre></blockquote>
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        new Runner(new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,117 @@
+package io.github.tiagobohnenberger.fntry.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import io.github.tiagobohnenberger.fntry.Failures;
+import io.github.tiagobohnenberger.fntry.StacklessException;
+import io.github.tiagobohnenberger.fntry.Step;
+import io.github.tiagobohnenberger.fntry.Try;
+import io.github.tiagobohnenberger.fntry.Validation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Failure paths with regular exceptions, {@link StacklessException stackless} ones and
+ * {@linkplain Failures expected} ones, next to an invalid {@link Validation}, that throws none.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class FailureBenchmark {
+
+    String key = "missing";
+    String sku = "";
+    int quantity = 0;
+
+    @Setup
+    public void setUp() {
+        Failures.expect(ExpectedMiss.class, new ExpectedMiss("missing"));
+    }
+
+    @TearDown
+    public void tearDown() {
+        Failures.clear();
+    }
+
+    @Benchmark
+    public Step<String> tryOfRegularFailure() {
+        return Try.of(() -> {
+            throw new IllegalStateException(key);
+        });
+    }
+
+    @Benchmark
+    public Step<String> tryOfStacklessFailure() {
+        return Try.of(() -> {
+            throw new StacklessException(key);
+        });
+    }
+
+    @Benchmark
+    public Step<String> tryOfExpectedStacklessFailure() {
+        return Try.of(() -> {
+            throw new ExpectedMiss(key);
+        });
+    }
+
+    @Benchmark
+    public Object tryLiftedFailure() {
+        try {
+            return Try.lifted(() -> {
+                throw new IllegalStateException(key);
+            });
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object tryLiftedStacklessFailure() {
+        try {
+            return Try.liftedStackless(() -> {
+                throw new StacklessException(key);
+            });
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Step<String> tryOfInvalidChecks() {
+        return Try.of(() -> {
+            if (sku.isEmpty()) {
+                throw new IllegalArgumentException("sku must not be empty");
+            }
+            if (quantity <= 0) {
+                throw new IllegalArgumentException("quantity must be positive");
+            }
+            return sku + quantity;
+        });
+    }
+
+    @Benchmark
+    public Validation<String> validationInvalidChecks() {
+        return Validation.combine(
+                Validation.check(sku, s -> !s.isEmpty(), "sku", "must not be empty"),
+                Validation.check(quantity, q -> q > 0, "quantity", "must be positive"),
+                (s, q) -> s + q);
+    }
+
+    static class ExpectedMiss extends StacklessException {
+        ExpectedMiss(String key) {
+            super(key);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package io.github.tiagobohnenberger.fntry.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import io.github.tiagobohnenberger.fntry.RecoveryTable;
+import io.github.tiagobohnenberger.fntry.Try;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * The {@code FallbackStrategy} methods applied to a failed {@code Try.of}, and its typed
+ * recovery by a {@code RecoveryTable} next to the {@code instanceof} ladder it replaces.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class FallbackBenchmark {
+
+    String notANumber = "forty-two";
+    RecoveryTable<Integer> recovery = RecoveryTable.<Integer>builder()
+            .on(ArithmeticException.class, e -> -2)
+            .on(IllegalStateException.class, e -> -3)
+            .on(IllegalArgumentException.class, e -> -1)
+            .build();
+
+    @Benchmark
+    public Integer orElse() {
+        return Try.of(() -> Integer.parseInt(notANumber))
+                .orElse(-1);
+    }
+
+    @Benchmark
+    public Integer orElseGet() {
+        return Try.of(() -> Integer.parseInt(notANumber))
+                .orElseGet(() -> -1);
+    }
+
+    @Benchmark
+    public Integer orThen() {
+        return Try.of(() -> Integer.parseInt(notANumber))
+                .orThen(i -> -1);
+    }
+
+    @Benchmark
+    public void orElseConsumer(Blackhole blackhole) {
+        Try.of(() -> Integer.parseInt(notANumber))
+                .orElse(blackhole::consume);
+    }
+
+    @Benchmark
+    public void orSimply(Blackhole blackhole) {
+        Try.of(() -> Integer.parseInt(notANumber))
+                .orSimply(() -> blackhole.consume(-1));
+    }
+
+    @Benchmark
+    public void otherwise(Blackhole blackhole) {
+        Try.of(() -> Integer.parseInt(notANumber))
+                .otherwise(blackhole::consume);
+    }
+
+    @Benchmark
+    public Integer recoverWith() {
+        return Try.of(() -> Integer.parseInt(notANumber))
+                .recoverWith(recovery)
+                .get();
+    }
+
+    @Benchmark
+    public Integer otherwiseInstanceOfLadder() {
+        int[] recovered = new int[1];
+        Try.of(() -> Integer.parseInt(notANumber))
+                .otherwise(e -> {
+                    if (e instanceof ArithmeticException) {
+                        recovered[0] = -2;
+                    } else if (e instanceof IllegalStateException) {
+                        recovered[0] = -3;
+                    } else if (e instanceof IllegalArgumentException) {
+                        recovered[0] = -1;
+                    }
+                });
+        return recovered[0];
+    }
+
+    @Benchmark
+    public int baseline() {
+        try {
+            return Integer.parseInt(notANumber);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
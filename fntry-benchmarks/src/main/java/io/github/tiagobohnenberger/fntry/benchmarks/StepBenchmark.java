@@ -0,0 +1,267 @@
+package io.github.tiagobohnenberger.fntry.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import io.github.tiagobohnenberger.fntry.Pipeline;
+import io.github.tiagobohnenberger.fntry.Step;
+import io.github.tiagobohnenberger.fntry.Try;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Intermediate operations of a {@code Step} ({@code map}, {@code apply}, {@code consume}
+ * and {@code filter}) on the success, failure and null-result paths, against the
+ * equivalent hand-written {@code try/catch}, and of the unboxed {@code IntStep}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class StepBenchmark {
+
+    String number = "42";
+    String notANumber = "forty-two";
+    String nothing = null;
+
+    Pipeline.Compiled<String, Integer> chain = Pipeline.<String>start()
+            .apply(String::trim)
+            .filter(s -> !s.isEmpty())
+            .consume(Integer::parseInt)
+            .apply(s -> s + "0")
+            .map(Integer::parseInt)
+            .compile();
+    Step<Integer> holder = Step.reusable(null);
+
+    // ---- map
+
+    @Benchmark
+    public int mapSuccess() {
+        return Try.with(number)
+                .map(Integer::parseInt)
+                .orElse(-1);
+    }
+
+    @Benchmark
+    public int mapFailure() {
+        return Try.with(notANumber)
+                .map(Integer::parseInt)
+                .orElse(-1);
+    }
+
+    @Benchmark
+    public int mapNullResult() {
+        return Try.with(nothing)
+                .map(String::length)
+                .orElse(-1);
+    }
+
+    // ---- apply
+
+    @Benchmark
+    public String applySuccess() {
+        return Try.with(number)
+                .apply(String::trim)
+                .orElse("");
+    }
+
+    @Benchmark
+    public String applyFailure() {
+        return Try.with(notANumber)
+                .apply(s -> String.valueOf(Integer.parseInt(s)))
+                .orElse("");
+    }
+
+    // ---- consume
+
+    @Benchmark
+    public String consumeSuccess(Blackhole blackhole) {
+        return Try.with(number)
+                .consume(blackhole::consume)
+                .orElse("");
+    }
+
+    @Benchmark
+    public String consumeFailure() {
+        return Try.with(notANumber)
+                .consume(Integer::parseInt)
+                .orElse("");
+    }
+
+    // ---- filter
+
+    @Benchmark
+    public String filterMatch() {
+        return Try.with(number)
+                .filter(s -> !s.isEmpty())
+                .orElse("");
+    }
+
+    @Benchmark
+    public String filterNoMatch() {
+        return Try.with(number)
+                .filter(String::isEmpty)
+                .orElse("");
+    }
+
+    @Benchmark
+    public String filterNullResult() {
+        return Try.with(nothing)
+                .filter(String::isEmpty)
+                .orElse("");
+    }
+
+    // ---- chains
+
+    @Benchmark
+    public int chainSuccess() {
+        return Try.of(() -> number)
+                .apply(String::trim)
+                .filter(s -> !s.isEmpty())
+                .consume(Integer::parseInt)
+                .apply(s -> s + "0")
+                .map(Integer::parseInt)
+                .orElse(-1);
+    }
+
+    @Benchmark
+    public int reusableChainSuccess() {
+        return Try.ofReusable(() -> number)
+                .apply(String::trim)
+                .filter(s -> !s.isEmpty())
+                .consume(Integer::parseInt)
+                .apply(s -> s + "0")
+                .map(Integer::parseInt)
+                .orElse(-1);
+    }
+
+    @Benchmark
+    public int lazyChainSuccess() {
+        return Try.lazy(() -> number)
+                .apply(String::trim)
+                .filter(s -> !s.isEmpty())
+                .consume(Integer::parseInt)
+                .apply(s -> s + "0")
+                .map(Integer::parseInt)
+                .orElse(-1);
+    }
+
+    @Benchmark
+    public int pipelineChainSuccess() {
+        return chain.apply(number).orElse(-1);
+    }
+
+    @Benchmark
+    public int pipelineHolderChainSuccess() {
+        return chain.apply(number, holder).orElse(-1);
+    }
+
+    @Benchmark
+    public int baselineChainSuccess() {
+        try {
+            String s = number.trim();
+            if (s.isEmpty()) {
+                return -1;
+            }
+            Integer.parseInt(s);
+            return Integer.parseInt(s + "0");
+        } catch (RuntimeException e) {
+            return -1;
+        }
+    }
+
+    @Benchmark
+    public int chainFailure() {
+        return Try.of(() -> notANumber)
+                .apply(String::trim)
+                .filter(s -> !s.isEmpty())
+                .consume(Integer::parseInt)
+                .apply(s -> s + "0")
+                .map(Integer::parseInt)
+                .orElse(-1);
+    }
+
+    @Benchmark
+    public int reusableChainFailure() {
+        return Try.ofReusable(() -> notANumber)
+                .apply(String::trim)
+                .filter(s -> !s.isEmpty())
+                .consume(Integer::parseInt)
+                .apply(s -> s + "0")
+                .map(Integer::parseInt)
+                .orElse(-1);
+    }
+
+    @Benchmark
+    public int lazyChainFailure() {
+        return Try.lazy(() -> notANumber)
+                .apply(String::trim)
+                .filter(s -> !s.isEmpty())
+                .consume(Integer::parseInt)
+                .apply(s -> s + "0")
+                .map(Integer::parseInt)
+                .orElse(-1);
+    }
+
+    @Benchmark
+    public int pipelineChainFailure() {
+        return chain.apply(notANumber).orElse(-1);
+    }
+
+    @Benchmark
+    public int pipelineHolderChainFailure() {
+        return chain.apply(notANumber, holder).orElse(-1);
+    }
+
+    @Benchmark
+    public int baselineChainFailure() {
+        try {
+            String s = notANumber.trim();
+            if (s.isEmpty()) {
+                return -1;
+            }
+            Integer.parseInt(s);
+            return Integer.parseInt(s + "0");
+        } catch (RuntimeException e) {
+            return -1;
+        }
+    }
+
+    // ---- primitive
+
+    @Benchmark
+    public int boxedNumericSuccess() {
+        return Try.of(() -> Integer.parseInt(number))
+                .apply(i -> i * 2)
+                .filter(i -> i > 0)
+                .map(i -> i + 1)
+                .orElse(-1);
+    }
+
+    @Benchmark
+    public int intNumericSuccess() {
+        return Try.ofInt(() -> Integer.parseInt(number))
+                .apply(i -> i * 2)
+                .filter(i -> i > 0)
+                .map(i -> i + 1)
+                .orElse(-1);
+    }
+
+    @Benchmark
+    public int intNumericFailure() {
+        return Try.ofInt(() -> Integer.parseInt(notANumber))
+                .apply(i -> i * 2)
+                .filter(i -> i > 0)
+                .map(i -> i + 1)
+                .orElse(-1);
+    }
+}
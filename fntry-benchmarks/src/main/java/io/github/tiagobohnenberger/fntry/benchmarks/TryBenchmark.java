@@ -0,0 +1,164 @@
+package io.github.tiagobohnenberger.fntry.benchmarks;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import io.github.tiagobohnenberger.fntry.ResourcePool;
+import io.github.tiagobohnenberger.fntry.Result;
+import io.github.tiagobohnenberger.fntry.Step;
+import io.github.tiagobohnenberger.fntry.Try;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Entry points of the library ({@code Try.of}, {@code Try.just}, {@code Try.get},
+ * {@code Try.lifted} and {@code Try.using}) on the success, failure and null-result paths, each
+ * one next to the hand-written {@code try/catch} it replaces.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class TryBenchmark {
+
+    String number = "42";
+    String notANumber = "forty-two";
+    String nothing = null;
+    ResourcePool<Buffer> buffers = ResourcePool.of(Buffer::new, 4);
+
+    // ---- Try.of
+
+    @Benchmark
+    public Step<Integer> tryOfSuccess() {
+        return Try.of(() -> Integer.parseInt(number));
+    }
+
+    @Benchmark
+    public Step<Integer> tryOfFailure() {
+        return Try.of(() -> Integer.parseInt(notANumber));
+    }
+
+    @Benchmark
+    public Step<String> tryOfNullResult() {
+        return Try.of(() -> nothing);
+    }
+
+    @Benchmark
+    public int baselineSuccess() {
+        try {
+            return Integer.parseInt(number);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    @Benchmark
+    public int baselineFailure() {
+        try {
+            return Integer.parseInt(notANumber);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    // ---- Try.just
+
+    @Benchmark
+    public Result<Void> tryJustSuccess() {
+        return Try.just(() -> Integer.parseInt(number));
+    }
+
+    @Benchmark
+    public Result<Void> tryJustFailure() {
+        return Try.just(() -> Integer.parseInt(notANumber));
+    }
+
+    // ---- Try.get
+
+    @Benchmark
+    public Optional<Integer> tryGetSuccess() {
+        return Try.get(() -> Integer.parseInt(number));
+    }
+
+    @Benchmark
+    public Optional<Integer> tryGetFailure() {
+        return Try.get(() -> Integer.parseInt(notANumber));
+    }
+
+    @Benchmark
+    public Optional<String> tryGetNullResult() {
+        return Try.get(() -> nothing);
+    }
+
+    // ---- Try.lifted
+
+    @Benchmark
+    public Integer tryLiftedSuccess() {
+        return Try.lifted(() -> Integer.parseInt(number));
+    }
+
+    @Benchmark
+    public Object tryLiftedFailure() {
+        try {
+            return Try.lifted(() -> Integer.parseInt(notANumber));
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object baselineLiftedFailure() {
+        try {
+            return Integer.parseInt(notANumber);
+        } catch (NumberFormatException e) {
+            return new RuntimeException(e);
+        }
+    }
+
+    // ---- Try.using
+
+    @Benchmark
+    public Step<Integer> tryUsing() {
+        return Try.using(Buffer::new, buffer -> buffer.fill(number));
+    }
+
+    @Benchmark
+    public Step<Integer> tryUsingPooled() {
+        return Try.using(buffers, buffer -> buffer.fill(number));
+    }
+
+    @Benchmark
+    public int baselineUsing() {
+        try (Buffer buffer = new Buffer()) {
+            return buffer.fill(number);
+        } catch (RuntimeException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * A resource that is expensive to create, but cheap to use.
+     */
+    static final class Buffer implements AutoCloseable {
+
+        final byte[] bytes = new byte[8192];
+
+        int fill(String s) {
+            bytes[0] = (byte) s.charAt(0);
+            return bytes[0];
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
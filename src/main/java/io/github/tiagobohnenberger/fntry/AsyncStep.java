@@ -0,0 +1,144 @@
+package io.github.tiagobohnenberger.fntry;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import jakarta.annotation.Nonnull;
+
+/**
+ * The asynchronous counterpart of a {@linkplain Step step}.
+ *
+ * <p>Each operation is a non-blocking stage that runs on the {@linkplain Executor executor}
+ * of the chain once the previous stage completes, with the same semantics as the
+ * {@code Step} operation of the same name:
+ * <blockquote><pre>
+ *  Try.ofAsync(() -&gt; client.fetch(id), ioExecutor)
+ *      .map(Response::body)
+ *      .filter(body -&gt; !body.isEmpty())
+ *      .orElse("")
+ *      .thenAccept(this::render);
+ * </pre></blockquote>
+ *
+ * <p>Failures never complete the underlying future exceptionally: they travel
+ * through the chain as a failed {@code Step}, until a fallback method handles them.
+ * That includes a stage rejected by the executor, which fails with the rejection.
+ * The fallback methods mirror the {@link FallbackStrategy} ones, but return a
+ * {@code CompletableFuture} of what they would return instead of blocking.
+ *
+ * @param <T> type of the step
+ * @see Try#ofAsync(Try, Executor)
+ */
+public interface AsyncStep<T> {
+
+    /**
+     * Adapts a {@code CompletionStage} into an {@code AsyncStep}, where an exceptional
+     * completion becomes a failed step.
+     *
+     * @param stage    the stage to adapt
+     * @param executor the executor of the following operations
+     * @param <T>      the type of the stage result
+     * @return the {@code AsyncStep}
+     */
+    static <T> AsyncStep<T> from(@Nonnull CompletionStage<? extends T> stage, @Nonnull Executor executor) {
+        return new AsyncStepImpl<>(stage.handle(AsyncStepImpl::<T>stepOf).toCompletableFuture(), executor);
+    }
+
+    /**
+     * Consumes the type of the step.
+     *
+     * @param consumer the consumer operation
+     * @param <E>      type of the exception
+     * @return the async step
+     * @see Step#consume(ThrowingConsumer)
+     */
+    <E extends Throwable> AsyncStep<T> consume(ThrowingConsumer<T, E> consumer);
+
+    /**
+     * Maps the type of the step.
+     *
+     * <p>Unlike {@link Step#map(ThrowingFunction)}, the chain can continue after a map.
+     *
+     * @param function the function of the mapper operation
+     * @param <E>      type of the exception that the function can throw
+     * @param <U>      the type of the result
+     * @return the async step of the mapped type
+     * @see Step#map(ThrowingFunction)
+     */
+    <U, E extends Throwable> AsyncStep<U> map(ThrowingFunction<T, ? extends U, E> function);
+
+    /**
+     * Applies an operation that returns the same type of the {@code AsyncStep<T>}
+     *
+     * @param function the operation
+     * @return the async step
+     * @see Step#apply(UnaryThrowingOperator)
+     */
+    AsyncStep<T> apply(UnaryThrowingOperator<T, ? extends Throwable> function);
+
+    /**
+     * Keeps the result value only if it matches the given predicate.
+     *
+     * @param predicate the predicate to apply to the value, if present
+     * @return the async step
+     * @see Step#filter(Predicate)
+     */
+    AsyncStep<T> filter(Predicate<T> predicate);
+
+    /**
+     * @param other to provide in case the step fails
+     * @return a future of the result value, or of {@code other} if this fails
+     * @see FallbackStrategy#orElse(Object)
+     */
+    CompletableFuture<T> orElse(T other);
+
+    /**
+     * @param otherSupplier the supplier function
+     * @return a future of the result value, or of the supplied one if this fails
+     * @see FallbackStrategy#orElseGet(Supplier)
+     */
+    CompletableFuture<T> orElseGet(@Nonnull Supplier<T> otherSupplier);
+
+    /**
+     * @param fallbackConsumer the consuming operation when this fails
+     * @return a future completed once the fallback (if any) ran
+     * @see FallbackStrategy#orElse(ThrowingConsumer)
+     */
+    CompletableFuture<Void> orElse(ThrowingConsumer<T, ? extends Throwable> fallbackConsumer);
+
+    /**
+     * @param fallbackConsumer the fallback consumer
+     * @return a future of the result value, or of the fallback one if this fails
+     * @see FallbackStrategy#orThen(UnaryThrowingOperator)
+     */
+    CompletableFuture<T> orThen(UnaryThrowingOperator<T, ? extends Throwable> fallbackConsumer);
+
+    /**
+     * @param fallbackOperation a simple function to run if this fails
+     * @return a future completed once the fallback (if any) ran
+     * @see FallbackStrategy#orSimply(SimpleFunction)
+     */
+    CompletableFuture<Void> orSimply(SimpleFunction fallbackOperation);
+
+    /**
+     * @param fallbackThrowingConsumer the consuming operation for an exception type
+     * @param <E>                      the type of the exception
+     * @return a future completed once the fallback (if any) ran
+     * @see FallbackStrategy#otherwise(Consumer)
+     */
+    <E extends Throwable> CompletableFuture<Void> otherwise(Consumer<E> fallbackThrowingConsumer);
+
+    /**
+     * @return a future of the resulting {@code Step}, which never completes exceptionally
+     */
+    CompletableFuture<Step<T>> toCompletableFuture();
+
+    /**
+     * Waits for the chain to complete.
+     *
+     * @return the resulting {@code Step}
+     */
+    Step<T> join();
+}
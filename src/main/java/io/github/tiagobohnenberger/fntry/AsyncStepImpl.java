@@ -0,0 +1,150 @@
+package io.github.tiagobohnenberger.fntry;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import jakarta.annotation.Nullable;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+class AsyncStepImpl<T> implements AsyncStep<T> {
+    private final CompletableFuture<Step<T>> future;
+    private final Executor executor;
+
+    static <T> AsyncStep<T> of(Try<T, ? extends Throwable> aTry, Executor executor) {
+        try {
+            return new AsyncStepImpl<>(CompletableFuture.supplyAsync(() -> Try.of(aTry), executor), executor);
+        } catch (Throwable e) {
+            return new AsyncStepImpl<>(CompletableFuture.completedFuture(Step.failed(e)), executor);
+        }
+    }
+
+    static <T> Step<T> stepOf(@Nullable T result, @Nullable Throwable throwable) {
+        return throwable == null ? Step.with(result) : Step.failed(unwrap(throwable));
+    }
+
+    static <T> Step<T> resolve(@Nullable Step<T> step, @Nullable Throwable throwable) {
+        return throwable == null ? step : Step.failed(unwrap(throwable));
+    }
+
+    static <T, U> Step<U> map(Step<T> step, ThrowingFunction<T, ? extends U, ?> function) {
+        if (step.isFailed()) {
+            return Step.failed(step.getException());
+        }
+        return Try.of(() -> function.apply(step.get()));
+    }
+
+    private static Throwable unwrap(Throwable throwable) {
+        return throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause()
+                : throwable;
+    }
+
+    @Override
+    public <E extends Throwable> AsyncStep<T> consume(ThrowingConsumer<T, E> consumer) {
+        return this.then(step -> step.consume(consumer));
+    }
+
+    @Override
+    public <U, E extends Throwable> AsyncStep<U> map(ThrowingFunction<T, ? extends U, E> function) {
+        return this.then(step -> map(step, function));
+    }
+
+    @Override
+    public AsyncStep<T> apply(UnaryThrowingOperator<T, ? extends Throwable> function) {
+        return this.then(step -> step.apply(function));
+    }
+
+    @Override
+    public AsyncStep<T> filter(Predicate<T> predicate) {
+        return this.then(step -> step.filter(predicate));
+    }
+
+    @Override
+    public CompletableFuture<T> orElse(T other) {
+        return this.fallback(step -> step.orElse(other));
+    }
+
+    @Override
+    public CompletableFuture<T> orElseGet(Supplier<T> otherSupplier) {
+        return this.fallback(step -> step.orElseGet(otherSupplier));
+    }
+
+    @Override
+    public CompletableFuture<Void> orElse(ThrowingConsumer<T, ? extends Throwable> fallbackConsumer) {
+        return this.fallback(step -> {
+            step.orElse(fallbackConsumer);
+            return null;
+        });
+    }
+
+    @Override
+    public CompletableFuture<T> orThen(UnaryThrowingOperator<T, ? extends Throwable> fallbackConsumer) {
+        return this.fallback(step -> step.orThen(fallbackConsumer));
+    }
+
+    @Override
+    public CompletableFuture<Void> orSimply(SimpleFunction fallbackOperation) {
+        return this.fallback(step -> {
+            step.orSimply(fallbackOperation);
+            return null;
+        });
+    }
+
+    @Override
+    public <E extends Throwable> CompletableFuture<Void> otherwise(Consumer<E> fallbackThrowingConsumer) {
+        return this.fallback(step -> {
+            step.otherwise(fallbackThrowingConsumer);
+            return null;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Step<T>> toCompletableFuture() {
+        return future.handle(AsyncStepImpl::resolve);
+    }
+
+    @Override
+    public Step<T> join() {
+        return this.toCompletableFuture().join();
+    }
+
+    private <U> AsyncStep<U> then(Function<Step<T>, Step<U>> stage) {
+        return new AsyncStepImpl<>(this.async(stage), executor);
+    }
+
+    private <R> CompletableFuture<R> fallback(Function<Step<T>, R> fallback) {
+        return this.async(fallback);
+    }
+
+    /**
+     * Runs a stage on the executor once this completes. If the executor rejects it, the stage
+     * still runs, on the completing thread, but with a step failed by the rejection, so that it
+     * ends up in the chain like any other failure rather than as an exceptional completion.
+     */
+    private <R> CompletableFuture<R> async(Function<Step<T>, R> stage) {
+        CompletableFuture<R> next = new CompletableFuture<>();
+        future.whenComplete((step, e) -> {
+            try {
+                executor.execute(() -> complete(next, stage, resolve(step, e)));
+            } catch (Throwable rejection) {
+                complete(next, stage, Step.failed(rejection));
+            }
+        });
+        return next;
+    }
+
+    private static <T, R> void complete(CompletableFuture<R> next, Function<Step<T>, R> stage, Step<T> step) {
+        try {
+            next.complete(stage.apply(step));
+        } catch (Throwable e) {
+            next.completeExceptionally(e);
+        }
+    }
+}
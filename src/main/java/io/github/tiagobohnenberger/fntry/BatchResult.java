@@ -0,0 +1,310 @@
+package io.github.tiagobohnenberger.fntry;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import jakarta.annotation.Nullable;
+
+/**
+ * The results of applying an operation to every element of a batch.
+ *
+ * <p>Each element, at the same index of its input, either succeeded with a value (that might be
+ * {@code null}) or failed with an exception, just like a {@linkplain Result result}. The values
+ * and the exceptions are kept in parallel arrays, so a batch holds no object per element:
+ * <blockquote><pre>
+ *  BatchResult&lt;Integer&gt; ports = Try.mapAll(lines, Integer::parseInt);
+ *
+ *  ports.otherwise(e -&gt; log.warn("Invalid port", e));
+ *  List&lt;Integer&gt; valid = ports.getSuccesses();
+ * </pre></blockquote>
+ *
+ * @param <U> the type of the values
+ * @see Try#mapAll(Iterable, ThrowingFunction)
+ * @see Try#mapAllParallel(Collection, ThrowingFunction, Mode, ForkJoinPool)
+ */
+public final class BatchResult<U> {
+
+    private static final Object[] EMPTY = new Object[0];
+
+    private Object[] values;
+    @Nullable
+    private Throwable[] failures;
+    private int size;
+    private int failureCount;
+
+    BatchResult(int capacity) {
+        this.values = capacity == 0 ? EMPTY : new Object[capacity];
+    }
+
+    private BatchResult(Object[] values, Throwable[] failures, int failureCount) {
+        this.values = values;
+        this.failures = failureCount == 0 ? null : failures;
+        this.size = values.length;
+        this.failureCount = failureCount;
+    }
+
+    static <T, U> BatchResult<U> mapAll(Iterable<? extends T> elements,
+                                        ThrowingFunction<? super T, ? extends U, ? extends Throwable> function) {
+        BatchResult<U> batch = new BatchResult<>(elements instanceof Collection
+                ? ((Collection<?>) elements).size()
+                : 16);
+        for (T element : elements) {
+            try {
+                batch.add(function.apply(element));
+            } catch (Throwable e) {
+                TryEvents.failed(e);
+                batch.addFailure(e);
+            }
+        }
+        return batch;
+    }
+
+    static <T, U> BatchResult<U> mapAllParallel(Collection<? extends T> elements,
+                                                ThrowingFunction<? super T, ? extends U, ? extends Throwable> function,
+                                                Mode mode, ForkJoinPool pool) {
+        BatchTask.Batch<T, U> batch = new BatchTask.Batch<>(elements.toArray(), function,
+                mode == Mode.FAIL_FAST, pool.getParallelism());
+        int failureCount = batch.size() == 0 ? 0 : pool.invoke(new BatchTask<>(batch, 0, batch.size()));
+        return new BatchResult<>(batch.getValues(), batch.getFailures(), failureCount);
+    }
+
+    void add(@Nullable U value) {
+        this.ensureCapacity();
+        values[size++] = value;
+    }
+
+    void addFailure(Throwable e) {
+        this.ensureCapacity();
+        if (failures == null) {
+            failures = new Throwable[values.length];
+        }
+        failures[size++] = e;
+        failureCount++;
+    }
+
+    BatchResult<U> addAll(BatchResult<? extends U> other) {
+        if (other.size == 0) {
+            return this;
+        }
+        int required = size + other.size;
+        if (required > values.length) {
+            values = Arrays.copyOf(values, required);
+            if (failures != null) {
+                failures = Arrays.copyOf(failures, required);
+            }
+        }
+        System.arraycopy(other.values, 0, values, size, other.size);
+        if (other.failures != null) {
+            if (failures == null) {
+                failures = new Throwable[values.length];
+            }
+            System.arraycopy(other.failures, 0, failures, size, other.size);
+        }
+        size = required;
+        failureCount += other.failureCount;
+        return this;
+    }
+
+    private void ensureCapacity() {
+        if (size == values.length) {
+            int capacity = Math.max(16, size + (size >> 1));
+            values = Arrays.copyOf(values, capacity);
+            if (failures != null) {
+                failures = Arrays.copyOf(failures, capacity);
+            }
+        }
+    }
+
+    /**
+     * @return the number of elements of the batch
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the number of failed elements
+     */
+    public int getFailureCount() {
+        return failureCount;
+    }
+
+    /**
+     * @return the number of successful elements
+     */
+    public int getSuccessCount() {
+        return size - failureCount;
+    }
+
+    /**
+     * @return if any element failed
+     */
+    public boolean isFailed() {
+        return failureCount > 0;
+    }
+
+    /**
+     * @param index the index of the element
+     * @return if the element failed
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public boolean isFailed(int index) {
+        this.checkIndex(index);
+        return failures != null && failures[index] != null;
+    }
+
+    /**
+     * @param index the index of the element
+     * @return the value of the element, {@code null} if it failed
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public U get(int index) {
+        this.checkIndex(index);
+        return (U) values[index];
+    }
+
+    /**
+     * @param index the index of the element
+     * @param <E>   the type of the exception
+     * @return the exception of the element, {@code null} if it succeeded
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <E extends Throwable> E getException(int index) {
+        this.checkIndex(index);
+        return failures == null ? null : (E) failures[index];
+    }
+
+    /**
+     * @param index the index of the element
+     * @param other the value if the element failed or its value is {@code null}
+     * @return the value of the element, or {@code other}
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @see Result#orElse(Object)
+     */
+    public U orElse(int index, U other) {
+        U value = this.get(index);
+        return value == null || this.isFailed(index) ? other : value;
+    }
+
+    /**
+     * Creates a {@code Result} for a single element.
+     *
+     * @param index the index of the element
+     * @return the {@code Result} of the element
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public Result<U> getResult(int index) {
+        return this.isFailed(index) ? Step.failed(failures[index]) : Step.with(this.get(index));
+    }
+
+    /**
+     * @param other the value of every element that failed or whose value is {@code null}
+     * @return a list of every element, in order
+     * @see Result#orElse(Object)
+     */
+    public List<U> orElse(U other) {
+        Object[] copy = Arrays.copyOf(values, size);
+        for (int i = 0; i < size; i++) {
+            if (copy[i] == null || (failures != null && failures[i] != null)) {
+                copy[i] = other;
+            }
+        }
+        return this.unmodifiable(copy);
+    }
+
+    /**
+     * Runs a {@linkplain Consumer consumer} for the exception of each failed element, in order.
+     *
+     * @param fallbackThrowingConsumer the consuming operation for an exception type
+     * @param <E>                      the type of the exception
+     * @see Result#otherwise(Consumer)
+     */
+    @SuppressWarnings("unchecked")
+    public <E extends Throwable> void otherwise(Consumer<E> fallbackThrowingConsumer) {
+        for (int i = 0; failures != null && i < size; i++) {
+            if (failures[i] != null) {
+                fallbackThrowingConsumer.accept((E) failures[i]);
+            }
+        }
+    }
+
+    /**
+     * @param fallbackOperation a simple function to run once if any element failed
+     * @see Result#orSimply(SimpleFunction)
+     */
+    public void orSimply(SimpleFunction fallbackOperation) {
+        if (this.isFailed()) {
+            fallbackOperation.apply();
+        }
+    }
+
+    /**
+     * @return a list of the values of the successful elements, in order
+     */
+    public List<U> getSuccesses() {
+        return this.unmodifiable(this.collect(false));
+    }
+
+    /**
+     * @return a list of the exceptions of the failed elements, in order
+     */
+    public List<Throwable> getFailures() {
+        return this.unmodifiable(this.collect(true));
+    }
+
+    private Object[] collect(boolean failed) {
+        Object[] collected = new Object[failed ? failureCount : size - failureCount];
+        for (int i = 0, j = 0; j < collected.length; i++) {
+            boolean elementFailed = failures != null && failures[i] != null;
+            if (elementFailed == failed) {
+                collected[j++] = failed ? failures[i] : values[i];
+            }
+        }
+        return collected;
+    }
+
+    private <V> List<V> unmodifiable(Object[] elements) {
+        return new AbstractList<V>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public V get(int index) {
+                return (V) elements[index];
+            }
+
+            @Override
+            public int size() {
+                return elements.length;
+            }
+        };
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    /**
+     * How a parallel batch handles a failed element.
+     */
+    public enum Mode {
+        /**
+         * Every element runs, whatever the outcome of the others.
+         */
+        COLLECT_ALL,
+        /**
+         * After the first failed element, the elements that didn't start yet are skipped and
+         * fail with a {@link CancellationException}. Which element fails first depends on the
+         * scheduling of the parallel tasks.
+         */
+        FAIL_FAST
+    }
+}
@@ -0,0 +1,96 @@
+package io.github.tiagobohnenberger.fntry;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Applies a function to a range of a parallel batch, splitting it in halves down to
+ * {@code threshold} elements, and returns the number of failed elements of the range.
+ */
+final class BatchTask<T, U> extends RecursiveTask<Integer> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Batch<T, U> batch;
+    private final int from;
+    private final int to;
+
+    BatchTask(Batch<T, U> batch, int from, int to) {
+        this.batch = batch;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    protected Integer compute() {
+        if (to - from > batch.threshold && !batch.cancelled) {
+            int middle = (from + to) >>> 1;
+            BatchTask<T, U> right = new BatchTask<>(batch, middle, to);
+            right.fork();
+            int failures = new BatchTask<>(batch, from, middle).compute();
+            return failures + right.join();
+        }
+
+        int failures = 0;
+        for (int i = from; i < to; i++) {
+            if (batch.cancelled) {
+                batch.failures[i] = batch.cancellation;
+                failures++;
+                continue;
+            }
+            try {
+                batch.values[i] = batch.function.apply(batch.element(i));
+            } catch (Throwable e) {
+                TryEvents.failed(e);
+                batch.failures[i] = e;
+                batch.cancelled = batch.failFast;
+                failures++;
+            }
+        }
+        return failures;
+    }
+
+    /**
+     * The state shared by every task of a parallel batch.
+     */
+    static final class Batch<T, U> {
+        private final Object[] elements;
+        private final ThrowingFunction<? super T, ? extends U, ? extends Throwable> function;
+        private final boolean failFast;
+        private final int threshold;
+        private final Object[] values;
+        private final Throwable[] failures;
+        private final CancellationException cancellation;
+        private volatile boolean cancelled;
+
+        Batch(Object[] elements, ThrowingFunction<? super T, ? extends U, ? extends Throwable> function,
+              boolean failFast, int parallelism) {
+            this.elements = elements;
+            this.function = function;
+            this.failFast = failFast;
+            this.threshold = Math.max(1, elements.length / (parallelism * 8));
+            this.values = new Object[elements.length];
+            this.failures = new Throwable[elements.length];
+            this.cancellation = failFast
+                    ? new CancellationException("skipped after a failed element")
+                    : null;
+        }
+
+        @SuppressWarnings("unchecked")
+        T element(int index) {
+            return (T) elements[index];
+        }
+
+        Object[] getValues() {
+            return values;
+        }
+
+        Throwable[] getFailures() {
+            return failures;
+        }
+
+        int size() {
+            return elements.length;
+        }
+    }
+}
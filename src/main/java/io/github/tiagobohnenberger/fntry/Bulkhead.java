@@ -0,0 +1,234 @@
+package io.github.tiagobohnenberger.fntry;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import jakarta.annotation.Nonnull;
+
+/**
+ * Limits how many calls to an operation run at the same time.
+ * <blockquote><pre>
+ *  Bulkhead bulkhead = Bulkhead.builder("inventory").maxConcurrentCalls(10).build();
+ *
+ *  int stock = bulkhead.of(() -&gt; inventory.stockOf(sku)).orElse(0);
+ * </pre></blockquote>
+ *
+ * <p>A call beyond the limit isn't queued: it's rejected with a {@link BulkheadFullException}
+ * without running, so the {@linkplain FallbackStrategy fallbacks} of the returned step apply
+ * immediately.
+ *
+ * <p>An {@linkplain Builder#adaptive(int, int, Duration) adaptive} bulkhead adjusts its limit to
+ * the latency of the calls, by additive increase and multiplicative decrease: each call that
+ * completes within the latency threshold raises the limit by {@code 1 / limit}, so about one
+ * per limit of calls, while each slower call, or failure deemed an
+ * {@linkplain Builder#overloadedOn(Predicate) overload}, multiplies it by the backoff ratio.
+ *
+ * <p>The bulkhead is lock-free and meant to be shared between threads.
+ */
+public final class Bulkhead {
+
+    private final String name;
+    private final boolean adaptive;
+    private final double minLimit;
+    private final double maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+    private final Predicate<Throwable> overload;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong limit;
+
+    private Bulkhead(Builder builder) {
+        this.name = builder.name;
+        this.adaptive = builder.adaptive;
+        this.minLimit = builder.minLimit;
+        this.maxLimit = builder.maxLimit;
+        this.latencyThresholdNanos = builder.latencyThreshold.toNanos();
+        this.backoffRatio = builder.backoffRatio;
+        this.overload = builder.overload;
+        this.limit = new AtomicLong(Double.doubleToLongBits(builder.adaptive ? builder.minLimit : builder.maxLimit));
+    }
+
+    /**
+     * @param name the name of the bulkhead, used in the messages of its rejections
+     * @return a builder of a bulkhead of 25 concurrent calls
+     */
+    public static Builder builder(@Nonnull String name) {
+        return new Builder(name);
+    }
+
+    /**
+     * Runs {@linkplain Try the try} if the bulkhead has room for it.
+     *
+     * @param aTry the try operation
+     * @param <T>  the type of the provided value
+     * @return a {@linkplain Step} of the try, or a failed one holding a {@link BulkheadFullException}
+     * if the bulkhead rejected the call
+     */
+    public <T> Step<T> of(Try<T, ? extends Throwable> aTry) {
+        if (!this.tryAcquire()) {
+            return Step.failed(new BulkheadFullException("bulkhead '" + name + "' is full"));
+        }
+
+        long start = adaptive ? System.nanoTime() : 0;
+        Step<T> step;
+        try {
+            step = Try.of(aTry);
+        } finally {
+            inFlight.decrementAndGet();
+        }
+        if (adaptive) {
+            this.onResult(System.nanoTime() - start, step);
+        }
+        return step;
+    }
+
+    /**
+     * Limits the calls to a {@linkplain ThrowingFunction function}, just like {@link #of(Try)}.
+     *
+     * @param function the function
+     * @param <T>      the type of the argument
+     * @param <U>      the type of the result
+     * @return a function returning the {@linkplain Step} of each call
+     */
+    public <T, U> ThrowingFunction<T, Step<U>, RuntimeException> wrap(
+            ThrowingFunction<? super T, ? extends U, ? extends Throwable> function) {
+        return t -> this.of(() -> function.apply(t));
+    }
+
+    /**
+     * @return the number of calls running
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * @return the current limit of concurrent calls
+     */
+    public int getLimit() {
+        return (int) Double.longBitsToDouble(limit.get());
+    }
+
+    /**
+     * @return the name of the bulkhead
+     */
+    public String getName() {
+        return name;
+    }
+
+    private boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= this.getLimit()) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private void onResult(long elapsedNanos, Step<?> step) {
+        boolean overloaded = elapsedNanos > latencyThresholdNanos
+                || (step.isFailed() && overload.test(step.getException()));
+        while (true) {
+            long bits = limit.get();
+            double current = Double.longBitsToDouble(bits);
+            double next = overloaded
+                    ? Math.max(minLimit, current * backoffRatio)
+                    : Math.min(maxLimit, current + 1 / current);
+            if (next == current || limit.compareAndSet(bits, Double.doubleToLongBits(next))) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Builder of a {@link Bulkhead}.
+     */
+    public static final class Builder {
+        private final String name;
+        private boolean adaptive;
+        private int minLimit = 1;
+        private int maxLimit = 25;
+        private Duration latencyThreshold = Duration.ZERO;
+        private double backoffRatio = 0.9;
+        private Predicate<Throwable> overload = e -> false;
+
+        private Builder(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Sets a fixed limit, as a semaphore of {@code maxConcurrentCalls} permits would.
+         *
+         * @param maxConcurrentCalls the maximum number of calls running at the same time
+         * @return this builder
+         * @throws IllegalArgumentException if the number isn't positive
+         */
+        public Builder maxConcurrentCalls(int maxConcurrentCalls) {
+            if (maxConcurrentCalls <= 0) {
+                throw new IllegalArgumentException("maxConcurrentCalls must be positive: " + maxConcurrentCalls);
+            }
+            this.adaptive = false;
+            this.maxLimit = maxConcurrentCalls;
+            return this;
+        }
+
+        /**
+         * Sets a limit that adapts to the latency of the calls, starting at {@code minLimit}.
+         *
+         * @param minLimit         the lowest limit
+         * @param maxLimit         the highest limit
+         * @param latencyThreshold the latency above which a call signals an overload
+         * @return this builder
+         * @throws IllegalArgumentException if a limit isn't positive, {@code maxLimit} is less than
+         *                                  {@code minLimit} or the threshold isn't positive
+         */
+        public Builder adaptive(int minLimit, int maxLimit, @Nonnull Duration latencyThreshold) {
+            if (minLimit <= 0 || maxLimit < minLimit || latencyThreshold.isNegative() || latencyThreshold.isZero()) {
+                throw new IllegalArgumentException("invalid adaptive limit: " + minLimit + " to " + maxLimit
+                        + " within " + latencyThreshold);
+            }
+            this.adaptive = true;
+            this.minLimit = minLimit;
+            this.maxLimit = maxLimit;
+            this.latencyThreshold = latencyThreshold;
+            return this;
+        }
+
+        /**
+         * @param backoffRatio the factor applied to an adaptive limit on an overload
+         * @return this builder
+         * @throws IllegalArgumentException if the ratio isn't between 0 and 1 (both exclusive)
+         */
+        public Builder backoffRatio(double backoffRatio) {
+            if (!(backoffRatio > 0 && backoffRatio < 1)) {
+                throw new IllegalArgumentException("backoffRatio must be in (0, 1): " + backoffRatio);
+            }
+            this.backoffRatio = backoffRatio;
+            return this;
+        }
+
+        /**
+         * Treats as overloads, besides the slow calls, the failed calls whose exception matches
+         * the given predicate, such as timeouts.
+         *
+         * @param overload the predicate on the exception of a failed call
+         * @return this builder
+         */
+        public Builder overloadedOn(@Nonnull Predicate<Throwable> overload) {
+            this.overload = overload;
+            return this;
+        }
+
+        /**
+         * @return the {@link Bulkhead}
+         */
+        public Bulkhead build() {
+            return new Bulkhead(this);
+        }
+    }
+}
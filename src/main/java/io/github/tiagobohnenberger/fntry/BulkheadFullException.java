@@ -0,0 +1,16 @@
+package io.github.tiagobohnenberger.fntry;
+
+/**
+ * The failure of a call rejected by a full {@linkplain Bulkhead bulkhead}.
+ */
+public class BulkheadFullException extends CallNotPermittedException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * @param message the detail message
+     */
+    public BulkheadFullException(String message) {
+        super(message);
+    }
+}
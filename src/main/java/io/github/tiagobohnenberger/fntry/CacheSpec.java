@@ -0,0 +1,121 @@
+package io.github.tiagobohnenberger.fntry;
+
+import java.time.Duration;
+import jakarta.annotation.Nonnull;
+
+/**
+ * Describes how a {@linkplain MemoizedTry memoized try} keeps its results.
+ * <blockquote><pre>
+ *  CacheSpec spec = CacheSpec.builder()
+ *          .maximumSize(10_000)
+ *          .expireAfterWrite(Duration.ofMinutes(10))
+ *          .cacheFailuresFor(Duration.ofSeconds(5))
+ *          .build();
+ * </pre></blockquote>
+ *
+ * <p>A spec is immutable and can be shared.
+ *
+ * @see Try#memoize(ThrowingFunction, CacheSpec)
+ */
+public final class CacheSpec {
+
+    private final int maximumSize;
+    private final long expireAfterWriteNanos;
+    private final long failureTtlNanos;
+
+    private CacheSpec(Builder builder) {
+        this.maximumSize = builder.maximumSize;
+        this.expireAfterWriteNanos = builder.expireAfterWrite.toNanos();
+        this.failureTtlNanos = builder.failureTtl.toNanos();
+    }
+
+    /**
+     * @return a builder of up to 1024 results that never expire, without caching failures
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return the maximum number of results kept
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * @return how long a successful result is kept, in nanoseconds ({@code 0} for as long as it isn't evicted)
+     */
+    long getExpireAfterWriteNanos() {
+        return expireAfterWriteNanos;
+    }
+
+    /**
+     * @return how long a failed result is kept, in nanoseconds ({@code 0} to not keep it)
+     */
+    long getFailureTtlNanos() {
+        return failureTtlNanos;
+    }
+
+    /**
+     * Builder of a {@link CacheSpec}.
+     */
+    public static final class Builder {
+        private int maximumSize = 1024;
+        private Duration expireAfterWrite = Duration.ZERO;
+        private Duration failureTtl = Duration.ZERO;
+
+        private Builder() {
+        }
+
+        /**
+         * @param maximumSize the maximum number of results kept, beyond which the least
+         *                    recently used ones, among a sample, are evicted
+         * @return this builder
+         * @throws IllegalArgumentException if {@code maximumSize} is less than 1
+         */
+        public Builder maximumSize(int maximumSize) {
+            if (maximumSize < 1) {
+                throw new IllegalArgumentException("maximumSize must be at least 1: " + maximumSize);
+            }
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * @param expireAfterWrite how long a successful result is kept, {@link Duration#ZERO}
+         *                         for as long as it isn't evicted
+         * @return this builder
+         * @throws IllegalArgumentException if {@code expireAfterWrite} is negative
+         */
+        public Builder expireAfterWrite(@Nonnull Duration expireAfterWrite) {
+            if (expireAfterWrite.isNegative()) {
+                throw new IllegalArgumentException("expireAfterWrite must not be negative: " + expireAfterWrite);
+            }
+            this.expireAfterWrite = expireAfterWrite;
+            return this;
+        }
+
+        /**
+         * Keeps failed results too, so that a failing key isn't computed again on every call.
+         *
+         * @param failureTtl how long a failed result is kept, {@link Duration#ZERO} to not keep it
+         * @return this builder
+         * @throws IllegalArgumentException if {@code failureTtl} is negative
+         */
+        public Builder cacheFailuresFor(@Nonnull Duration failureTtl) {
+            if (failureTtl.isNegative()) {
+                throw new IllegalArgumentException("failureTtl must not be negative: " + failureTtl);
+            }
+            this.failureTtl = failureTtl;
+            return this;
+        }
+
+        /**
+         * @return the {@link CacheSpec}
+         */
+        public CacheSpec build() {
+            return new CacheSpec(this);
+        }
+    }
+}
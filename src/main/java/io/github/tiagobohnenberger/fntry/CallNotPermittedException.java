@@ -0,0 +1,20 @@
+package io.github.tiagobohnenberger.fntry;
+
+/**
+ * The failure of a call that was rejected without running, so that a
+ * {@linkplain FallbackStrategy fallback} handles it right away.
+ *
+ * <p>Like every {@link StacklessException}, it doesn't fill in its stack trace,
+ * so rejecting a call stays cheap under load.
+ */
+public class CallNotPermittedException extends StacklessException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * @param message the detail message
+     */
+    public CallNotPermittedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,295 @@
+package io.github.tiagobohnenberger.fntry;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+import jakarta.annotation.Nonnull;
+
+/**
+ * Stops calling an operation that keeps failing.
+ * <blockquote><pre>
+ *  CircuitBreaker breaker = CircuitBreaker.builder("inventory").build();
+ *
+ *  int stock = breaker.of(() -&gt; inventory.stockOf(sku)).orElse(0);
+ * </pre></blockquote>
+ *
+ * <p>While {@linkplain State#CLOSED closed}, every call runs and its outcome is recorded in a
+ * sliding window of the last {@code slidingWindowSize} calls. Once the window holds at least
+ * {@code minimumCalls} outcomes and their failure rate reaches the threshold, the breaker
+ * {@linkplain State#OPEN opens}: calls are rejected with a {@link CircuitOpenException}
+ * without running, so the {@linkplain FallbackStrategy fallbacks} of the returned step apply
+ * immediately. After {@code openDuration}, the breaker turns {@linkplain State#HALF_OPEN half-open}
+ * and lets {@code permittedCallsInHalfOpen} trial calls through: it closes again if all of them
+ * succeed, and opens again on the first failure.
+ *
+ * <p>The breaker is lock-free and meant to be shared between threads.
+ */
+public final class CircuitBreaker {
+
+    private final String name;
+    private final double failureRateThreshold;
+    private final int slidingWindowSize;
+    private final int minimumCalls;
+    private final long openDurationNanos;
+    private final int permittedCallsInHalfOpen;
+    private final Predicate<Throwable> recordedFailure;
+
+    private final AtomicReference<Snapshot> snapshot;
+
+    private CircuitBreaker(Builder builder) {
+        this.name = builder.name;
+        this.failureRateThreshold = builder.failureRateThreshold;
+        this.slidingWindowSize = builder.slidingWindowSize;
+        this.minimumCalls = builder.minimumCalls;
+        this.openDurationNanos = builder.openDuration.toNanos();
+        this.permittedCallsInHalfOpen = builder.permittedCallsInHalfOpen;
+        this.recordedFailure = builder.recordedFailure;
+        this.snapshot = new AtomicReference<>(this.closed());
+    }
+
+    /**
+     * @param name the name of the breaker, used in the messages of its rejections
+     * @return a builder with a failure rate threshold of 50% over the last 100 calls
+     * (at least 20 of them), 30 s open and 5 trial calls when half-open
+     */
+    public static Builder builder(@Nonnull String name) {
+        return new Builder(name);
+    }
+
+    /**
+     * Runs {@linkplain Try the try} if the breaker permits it, recording its outcome.
+     *
+     * @param aTry the try operation
+     * @param <T>  the type of the provided value
+     * @return a {@linkplain Step} of the try, or a failed one holding a {@link CircuitOpenException}
+     * if the breaker rejected the call
+     */
+    public <T> Step<T> of(Try<T, ? extends Throwable> aTry) {
+        Snapshot permit = this.acquirePermission();
+        if (permit == null) {
+            return Step.failed(new CircuitOpenException("circuit breaker '" + name + "' is open"));
+        }
+
+        Step<T> step = Try.of(aTry);
+        this.onResult(permit, step.isFailed() && recordedFailure.test(step.getException()));
+        return step;
+    }
+
+    /**
+     * @return the current state of the breaker
+     */
+    public State getState() {
+        Snapshot current = snapshot.get();
+        if (current.state == State.OPEN && this.openElapsed(current)) {
+            return State.HALF_OPEN;
+        }
+        return current.state;
+    }
+
+    /**
+     * @return the name of the breaker
+     */
+    public String getName() {
+        return name;
+    }
+
+    private Snapshot acquirePermission() {
+        while (true) {
+            Snapshot current = snapshot.get();
+            switch (current.state) {
+                case CLOSED:
+                    return current;
+                case HALF_OPEN:
+                    return current.permits.getAndDecrement() > 0 ? current : null;
+                default:
+                    if (!this.openElapsed(current)) {
+                        return null;
+                    }
+                    snapshot.compareAndSet(current, this.halfOpen());
+            }
+        }
+    }
+
+    private void onResult(Snapshot permit, boolean failed) {
+        if (permit.state == State.CLOSED) {
+            if (permit.window.record(failed)) {
+                snapshot.compareAndSet(permit, this.open());
+            }
+        } else if (failed) {
+            snapshot.compareAndSet(permit, this.open());
+        } else if (permit.successes.incrementAndGet() == permittedCallsInHalfOpen) {
+            snapshot.compareAndSet(permit, this.closed());
+        }
+    }
+
+    private boolean openElapsed(Snapshot open) {
+        return System.nanoTime() - open.openedAt >= openDurationNanos;
+    }
+
+    private Snapshot closed() {
+        return new Snapshot(State.CLOSED, new Window(), 0, null, null);
+    }
+
+    private Snapshot open() {
+        return new Snapshot(State.OPEN, null, System.nanoTime(), null, null);
+    }
+
+    private Snapshot halfOpen() {
+        return new Snapshot(State.HALF_OPEN, null, 0,
+                new AtomicInteger(permittedCallsInHalfOpen), new AtomicInteger());
+    }
+
+    /**
+     * The states of a {@link CircuitBreaker}.
+     */
+    public enum State {
+        /**
+         * Calls run and their outcomes are recorded.
+         */
+        CLOSED,
+        /**
+         * Calls are rejected.
+         */
+        OPEN,
+        /**
+         * A limited number of trial calls run to decide whether the breaker closes again.
+         */
+        HALF_OPEN
+    }
+
+    private static final class Snapshot {
+        private final State state;
+        private final Window window;
+        private final long openedAt;
+        private final AtomicInteger permits;
+        private final AtomicInteger successes;
+
+        private Snapshot(State state, Window window, long openedAt, AtomicInteger permits, AtomicInteger successes) {
+            this.state = state;
+            this.window = window;
+            this.openedAt = openedAt;
+            this.permits = permits;
+            this.successes = successes;
+        }
+    }
+
+    /**
+     * Ring buffer of the outcomes of the last {@code slidingWindowSize} calls.
+     */
+    private final class Window {
+        private static final int SUCCESS = 1;
+        private static final int FAILURE = 2;
+
+        private final AtomicIntegerArray outcomes = new AtomicIntegerArray(slidingWindowSize);
+        private final AtomicLong calls = new AtomicLong();
+        private final AtomicInteger failures = new AtomicInteger();
+
+        /**
+         * @return if the failure rate reached the threshold
+         */
+        private boolean record(boolean failed) {
+            long call = calls.getAndIncrement();
+            int outcome = failed ? FAILURE : SUCCESS;
+            int evicted = outcomes.getAndSet((int) (call % slidingWindowSize), outcome);
+
+            int delta = (outcome == FAILURE ? 1 : 0) - (evicted == FAILURE ? 1 : 0);
+            int currentFailures = delta == 0 ? failures.get() : failures.addAndGet(delta);
+            long recorded = Math.min(call + 1, slidingWindowSize);
+
+            return recorded >= minimumCalls && currentFailures >= failureRateThreshold * recorded;
+        }
+    }
+
+    /**
+     * Builder of a {@link CircuitBreaker}.
+     */
+    public static final class Builder {
+        private final String name;
+        private double failureRateThreshold = 0.5;
+        private int slidingWindowSize = 100;
+        private int minimumCalls = 20;
+        private Duration openDuration = Duration.ofSeconds(30);
+        private int permittedCallsInHalfOpen = 5;
+        private Predicate<Throwable> recordedFailure = e -> true;
+
+        private Builder(String name) {
+            this.name = name;
+        }
+
+        /**
+         * @param failureRateThreshold the failure rate, between 0 (exclusive) and 1, that opens the breaker
+         * @return this builder
+         * @throws IllegalArgumentException if the threshold is out of range
+         */
+        public Builder failureRateThreshold(double failureRateThreshold) {
+            if (!(failureRateThreshold > 0 && failureRateThreshold <= 1)) {
+                throw new IllegalArgumentException("failureRateThreshold must be in (0, 1]: " + failureRateThreshold);
+            }
+            this.failureRateThreshold = failureRateThreshold;
+            return this;
+        }
+
+        /**
+         * @param slidingWindowSize the number of last calls whose outcomes are considered
+         * @param minimumCalls      the number of outcomes needed before the failure rate is considered
+         * @return this builder
+         * @throws IllegalArgumentException if a size isn't positive or {@code minimumCalls} exceeds the window
+         */
+        public Builder slidingWindow(int slidingWindowSize, int minimumCalls) {
+            if (slidingWindowSize <= 0 || minimumCalls <= 0 || minimumCalls > slidingWindowSize) {
+                throw new IllegalArgumentException("invalid sliding window: " + minimumCalls + " of " + slidingWindowSize);
+            }
+            this.slidingWindowSize = slidingWindowSize;
+            this.minimumCalls = minimumCalls;
+            return this;
+        }
+
+        /**
+         * @param openDuration how long the breaker stays open before letting trial calls through
+         * @return this builder
+         * @throws IllegalArgumentException if the duration is negative
+         */
+        public Builder openDuration(@Nonnull Duration openDuration) {
+            if (openDuration.isNegative()) {
+                throw new IllegalArgumentException("openDuration must not be negative: " + openDuration);
+            }
+            this.openDuration = openDuration;
+            return this;
+        }
+
+        /**
+         * @param permittedCallsInHalfOpen the number of trial calls that must succeed to close the breaker again
+         * @return this builder
+         * @throws IllegalArgumentException if the number isn't positive
+         */
+        public Builder permittedCallsInHalfOpen(int permittedCallsInHalfOpen) {
+            if (permittedCallsInHalfOpen <= 0) {
+                throw new IllegalArgumentException("permittedCallsInHalfOpen must be positive: " + permittedCallsInHalfOpen);
+            }
+            this.permittedCallsInHalfOpen = permittedCallsInHalfOpen;
+            return this;
+        }
+
+        /**
+         * Counts as failures only the failed calls whose exception matches the given predicate;
+         * the other ones count as successes.
+         *
+         * @param recordedFailure the predicate on the exception of a failed call
+         * @return this builder
+         */
+        public Builder recordFailureIf(@Nonnull Predicate<Throwable> recordedFailure) {
+            this.recordedFailure = recordedFailure;
+            return this;
+        }
+
+        /**
+         * @return the {@link CircuitBreaker}, closed
+         */
+        public CircuitBreaker build() {
+            return new CircuitBreaker(this);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package io.github.tiagobohnenberger.fntry;
+
+/**
+ * The failure of a call rejected by an open {@linkplain CircuitBreaker circuit breaker}.
+ */
+public class CircuitOpenException extends CallNotPermittedException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * @param message the detail message
+     */
+    public CircuitOpenException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,17 @@
+package io.github.tiagobohnenberger.fntry;
+
+/**
+ * The failure of an operation that didn't complete, or didn't start,
+ * before the deadline of its {@linkplain DeadlineStep step}.
+ */
+public class DeadlineExceededException extends StacklessException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * @param message the detail message
+     */
+    public DeadlineExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,73 @@
+package io.github.tiagobohnenberger.fntry;
+
+import java.time.Duration;
+import java.util.function.Predicate;
+
+/**
+ * A {@linkplain Step step} bound to a deadline.
+ *
+ * <p>Every following operation carries the same deadline, and checks the remaining time
+ * before running: once it's spent, the operation doesn't run and the step fails with a
+ * {@link DeadlineExceededException}, which the {@linkplain FallbackStrategy fallbacks} handle
+ * like any other failure:
+ * <blockquote><pre>
+ *  Price price = Try.of(() -&gt; pricing.quote(sku), Duration.ofMillis(200))
+ *          .map(Quote::price)
+ *          .orElse(Price.UNKNOWN);
+ * </pre></blockquote>
+ *
+ * <p>An operation that starts before the deadline isn't interrupted.
+ *
+ * @param <T> type of the step
+ * @see Try#of(Try, Duration)
+ */
+public interface DeadlineStep<T> extends Step<T> {
+
+    /**
+     * @return the time left until the deadline, or {@link Duration#ZERO} if it passed
+     */
+    Duration getRemaining();
+
+    /**
+     * @return if the deadline passed
+     */
+    boolean isExpired();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    <E extends Throwable> DeadlineStep<T> consume(ThrowingConsumer<T, E> consumer);
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The returned result is itself a {@code DeadlineStep}, so the chain can continue.
+     */
+    @Override
+    <U, E extends Throwable> DeadlineStep<U> map(ThrowingFunction<T, ? extends U, E> function);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    DeadlineStep<T> apply(UnaryThrowingOperator<T, ? extends Throwable> function);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    DeadlineStep<T> filter(Predicate<T> predicate);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    <X extends Throwable> DeadlineStep<T> recover(Class<X> type, ThrowingFunction<? super X, ? extends T, ? extends Throwable> function);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    DeadlineStep<T> recoverWith(RecoveryTable<T> table);
+}
@@ -0,0 +1,135 @@
+package io.github.tiagobohnenberger.fntry;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
+import jakarta.annotation.Nullable;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+class DeadlineStepImpl<T> implements DeadlineStep<T> {
+    private final StepImpl<T> step;
+    private final long deadline;
+    private final Duration timeout;
+
+    static <T> DeadlineStep<T> of(Try<T, ? extends Throwable> aTry, Duration timeout, Executor executor) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        FutureTask<StepImpl<T>> task = new FutureTask<>(() -> StepImpl.of(aTry));
+
+        StepImpl<T> step;
+        try {
+            executor.execute(task);
+            step = task.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            task.cancel(true);
+            step = StepImpl.failed(exceeded(timeout));
+        } catch (InterruptedException e) {
+            task.cancel(true);
+            Thread.currentThread().interrupt();
+            step = StepImpl.failed(e);
+        } catch (ExecutionException e) {
+            step = StepImpl.failed(e.getCause());
+        } catch (Throwable e) {
+            step = StepImpl.failed(e);
+        }
+        return new DeadlineStepImpl<>(step, deadline, timeout);
+    }
+
+    private static DeadlineExceededException exceeded(Duration timeout) {
+        return new DeadlineExceededException("deadline of " + timeout + " exceeded");
+    }
+
+    @Override
+    public Duration getRemaining() {
+        return Duration.ofNanos(Math.max(0, deadline - System.nanoTime()));
+    }
+
+    @Override
+    public boolean isExpired() {
+        return deadline - System.nanoTime() <= 0;
+    }
+
+    @Override
+    public <E extends Throwable> DeadlineStep<T> consume(ThrowingConsumer<T, E> consumer) {
+        if (step.isFailed()) {
+            return this;
+        }
+        return this.isExpired() ? this.expired() : this.next(step.consume(consumer));
+    }
+
+    @Override
+    public <U, E extends Throwable> DeadlineStep<U> map(ThrowingFunction<T, ? extends U, E> function) {
+        if (!step.isFailed() && this.isExpired()) {
+            return this.expired();
+        }
+        return this.next(step.map(function));
+    }
+
+    @Override
+    public DeadlineStep<T> apply(UnaryThrowingOperator<T, ? extends Throwable> function) {
+        if (step.isFailed()) {
+            return this;
+        }
+        return this.isExpired() ? this.expired() : this.next(step.apply(function));
+    }
+
+    @Override
+    public DeadlineStep<T> filter(Predicate<T> predicate) {
+        if (!step.isFailed() && this.isExpired()) {
+            return this.expired();
+        }
+        return this.next(step.filter(predicate));
+    }
+
+    @Override
+    public <X extends Throwable> DeadlineStep<T> recover(Class<X> type,
+                                                        ThrowingFunction<? super X, ? extends T, ? extends Throwable> function) {
+        return step.isFailed() ? this.next(step.recover(type, function)) : this;
+    }
+
+    @Override
+    public DeadlineStep<T> recoverWith(RecoveryTable<T> table) {
+        return step.isFailed() ? this.next(step.recoverWith(table)) : this;
+    }
+
+    @Override
+    public Result<T> getResult() {
+        return this;
+    }
+
+    @Override
+    public T orElse(T other) {
+        return step.orElse(other);
+    }
+
+    @Override
+    public boolean isFailed() {
+        return step.isFailed();
+    }
+
+    @Nullable
+    @Override
+    public <E extends Throwable> E getException() {
+        return step.getException();
+    }
+
+    @Nullable
+    @Override
+    public T get() {
+        return step.get();
+    }
+
+    private <U> DeadlineStepImpl<U> next(StepImpl<U> nextStep) {
+        return new DeadlineStepImpl<>(nextStep, deadline, timeout);
+    }
+
+    private <U> DeadlineStepImpl<U> expired() {
+        return this.next(StepImpl.failed(exceeded(timeout)));
+    }
+}
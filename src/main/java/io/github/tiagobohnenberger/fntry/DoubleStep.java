@@ -0,0 +1,54 @@
+package io.github.tiagobohnenberger.fntry;
+
+import java.util.function.DoublePredicate;
+
+/**
+ * A {@link Step} on a {@code double} value, that keeps the value unboxed through the chain:
+ * <blockquote><pre>
+ *  double ratio = Try.ofDouble(() -&gt; Double.parseDouble(s))
+ *          .apply(Math::sqrt)
+ *          .filter(Double::isFinite)
+ *          .orElse(1.0);
+ * </pre></blockquote>
+ *
+ * @see Try#ofDouble(DoubleTry)
+ */
+public interface DoubleStep extends DoubleResult {
+
+    static DoubleStep with(double initValue) {
+        return new DoubleStepImpl(initValue);
+    }
+
+    static DoubleStep failed(Throwable e) {
+        return DoubleStepImpl.failed(e);
+    }
+
+    /**
+     * Maps the value of the step and returns an {@code DoubleResult}, where can be
+     * applied a fallback.
+     *
+     * @param function the function of the mapper operation
+     * @return the {@code DoubleResult}
+     * @see Step#map(ThrowingFunction)
+     */
+    DoubleResult map(DoubleUnaryThrowingOperator<? extends Throwable> function);
+
+    /**
+     * Applies an operation on the value of the step.
+     *
+     * @param function the operation
+     * @return the step
+     * @see Step#apply(UnaryThrowingOperator)
+     */
+    DoubleStep apply(DoubleUnaryThrowingOperator<? extends Throwable> function);
+
+    /**
+     * If the value is present in this {@code DoubleStep} and matches the given predicate,
+     * return an {@code DoubleStep} containing the filtered value.
+     *
+     * @param predicate the predicate to apply to the value, if present
+     * @return an {@code DoubleStep} containing the matched value
+     * @see Step#filter(java.util.function.Predicate)
+     */
+    DoubleStep filter(DoublePredicate predicate);
+}
@@ -0,0 +1,87 @@
+package io.github.tiagobohnenberger.fntry;
+
+import java.util.function.DoublePredicate;
+import jakarta.annotation.Nullable;
+
+final class DoubleStepImpl implements DoubleStep {
+    private static final DoubleStepImpl EMPTY = new DoubleStepImpl(0.0, null, false);
+
+    private final double result;
+    @Nullable
+    private final Throwable throwable;
+    private final boolean present;
+
+    private DoubleStepImpl(double result, @Nullable Throwable throwable, boolean present) {
+        this.result = result;
+        this.throwable = throwable;
+        this.present = present;
+    }
+
+    DoubleStepImpl(double result) {
+        this(result, null, true);
+    }
+
+    static DoubleStepImpl failed(Throwable e) {
+        return new DoubleStepImpl(0.0, e, false);
+    }
+
+    @Override
+    public DoubleStepImpl map(DoubleUnaryThrowingOperator<? extends Throwable> function) {
+        return this.apply(function);
+    }
+
+    @Override
+    public DoubleStepImpl apply(DoubleUnaryThrowingOperator<? extends Throwable> function) {
+        if (!present) {
+            return this;
+        }
+
+        try {
+            return this.next(function.apply(result));
+        } catch (Throwable e) {
+            TryEvents.failed(e);
+            return failed(e);
+        }
+    }
+
+    @Override
+    public DoubleStepImpl filter(DoublePredicate predicate) {
+        if (!present) {
+            return this;
+        }
+
+        boolean matches;
+        try {
+            matches = predicate.test(result);
+        } catch (Throwable e) {
+            matches = false;
+        }
+        return matches ? this : EMPTY;
+    }
+
+    @Override
+    public boolean isFailed() {
+        return throwable != null;
+    }
+
+    @Override
+    public boolean isPresent() {
+        return present;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Nullable
+    @Override
+    public <E extends Throwable> E getException() {
+        return (E) this.throwable;
+    }
+
+    @Override
+    public double getAsDouble() {
+        return result;
+    }
+
+    private DoubleStepImpl next(double newResult) {
+        return Double.doubleToRawLongBits(newResult) == Double.doubleToRawLongBits(result) ? this : new DoubleStepImpl(newResult);
+    }
+}
@@ -0,0 +1,19 @@
+package io.github.tiagobohnenberger.fntry;
+
+/**
+ * A {@link Try} that produces a {@code double}, without boxing it.
+ *
+ * @param <E> checked exception
+ * @see Try#ofDouble(DoubleTry)
+ */
+@FunctionalInterface
+public interface DoubleTry<E extends Throwable> {
+
+    /**
+     * Runs a try and returns the result.
+     *
+     * @return the try operation result
+     * @throws E type that can be thrown by the try operation
+     */
+    double apply() throws E;
+}
@@ -0,0 +1,79 @@
+package io.github.tiagobohnenberger.fntry;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+/**
+ * Registry of <i>expected</i> exception types.
+ *
+ * <p>A failed {@linkplain Step step} with no value (as returned by {@link Try#of(Try)},
+ * {@link Try#just(ThrowingSimpleFunction)} or a failed {@code map}) usually holds the exception
+ * that was thrown. When the exception's exact type is registered here, the step is replaced by
+ * a cached sentinel step for that type instead, so repeated failures allocate nothing:
+ * <blockquote><pre>
+ *  Failures.expect(NotFound.class, new NotFound("no such key"));
+ *
+ *  Value value = Try.of(() -&gt; store.find(key)).orElse(Value.EMPTY);
+ * </pre></blockquote>
+ *
+ * <p>The sentinel step holds the exception instance given on registration, which is left as it
+ * is. The {@linkplain Result#getException() exception} of such a step therefore only tells
+ * <i>which</i> failure happened, not its message, so the sentinel should be a
+ * {@link StacklessException} with a generic message.
+ *
+ * <p>The JVM fills the stack trace when an exception is created, before it ever reaches a
+ * step. To skip that cost as well, the expected failure itself must be a
+ * {@link StacklessException}.
+ */
+public final class Failures {
+
+    private static final Map<Class<?>, StepImpl<?>> SENTINELS = new ConcurrentHashMap<>();
+
+    private Failures() {
+    }
+
+    /**
+     * Registers an exception type as expected, with the exception instance that
+     * every failed step of that type will hold.
+     *
+     * @param type     the exact type of the exception
+     * @param sentinel the exception held by the failed steps
+     * @param <X>      the type of the exception
+     */
+    public static <X extends Throwable> void expect(@Nonnull Class<X> type, @Nonnull X sentinel) {
+        SENTINELS.put(type, new StepImpl<>(sentinel));
+    }
+
+    /**
+     * @param type the exception type
+     * @return if the exact type is registered as expected
+     */
+    public static boolean isExpected(Class<? extends Throwable> type) {
+        return SENTINELS.containsKey(type);
+    }
+
+    /**
+     * Removes an exception type from the registry.
+     *
+     * @param type the exact type of the exception
+     */
+    public static void forget(Class<? extends Throwable> type) {
+        SENTINELS.remove(type);
+    }
+
+    /**
+     * Removes every registered type.
+     */
+    public static void clear() {
+        SENTINELS.clear();
+    }
+
+    // a lookup in the empty map is a single read, so there's no flag to keep in sync with it
+    @Nullable
+    @SuppressWarnings("unchecked")
+    static <T> StepImpl<T> sentinel(Throwable e) {
+        return (StepImpl<T>) SENTINELS.get(e.getClass());
+    }
+}
@@ -0,0 +1,149 @@
+package io.github.tiagobohnenberger.fntry;
+
+import java.util.NoSuchElementException;
+import java.util.function.BinaryOperator;
+import java.util.stream.Collector;
+
+/**
+ * {@linkplain Collector Collectors} that apply a throwing function to the elements of a stream,
+ * in a single pass and without a {@linkplain Step step} per element:
+ * <blockquote><pre>
+ *  BatchResult&lt;Integer&gt; ports = lines.stream()
+ *          .collect(FnTryCollectors.partitioning(Integer::parseInt));
+ *
+ *  Reduction&lt;Long&gt; total = files.parallelStream()
+ *          .collect(FnTryCollectors.summingLong(Files::size));
+ * </pre></blockquote>
+ *
+ * <p>The collectors never stop at a failure; to stop at the first one, see
+ * {@link Results#traverse(java.util.stream.Stream, ThrowingFunction)}.
+ *
+ * @see Results
+ */
+public final class FnTryCollectors {
+
+    private FnTryCollectors() {
+    }
+
+    /**
+     * Applies a function to every element, keeping the value or the exception of each one in
+     * encounter order.
+     *
+     * @param function the function to apply to each element
+     * @param <T>      the type of the elements
+     * @param <U>      the type of the values
+     * @return a {@code Collector} of a {@link BatchResult}
+     */
+    public static <T, U> Collector<T, ?, BatchResult<U>> partitioning(
+            ThrowingFunction<? super T, ? extends U, ? extends Throwable> function) {
+        return Collector.of(
+                () -> new BatchResult<U>(0),
+                (batch, element) -> {
+                    try {
+                        batch.add(function.apply(element));
+                    } catch (Throwable e) {
+                        TryEvents.failed(e);
+                        batch.addFailure(e);
+                    }
+                },
+                BatchResult::addAll);
+    }
+
+    /**
+     * Collects a stream of {@linkplain Result results}, keeping the value or the exception of
+     * each one in encounter order. A failed result without an exception is kept as failed with a
+     * {@link NoSuchElementException}.
+     *
+     * @param <T> the type of the values
+     * @return a {@code Collector} of a {@link BatchResult}
+     */
+    public static <T> Collector<Result<? extends T>, ?, BatchResult<T>> partitioningResults() {
+        return Collector.of(
+                () -> new BatchResult<T>(0),
+                (batch, result) -> {
+                    if (result.isFailed()) {
+                        Throwable e = result.getException();
+                        batch.addFailure(e != null ? e : new NoSuchElementException("failed result without an exception"));
+                    } else {
+                        batch.add(result.get());
+                    }
+                },
+                BatchResult::addAll);
+    }
+
+    /**
+     * Reduces the values of the elements for which the function succeeded, counting the ones
+     * for which it failed.
+     *
+     * @param identity the identity of the reduction
+     * @param function the function to apply to each element
+     * @param operator the associative operator that reduces two values
+     * @param <T>      the type of the elements
+     * @param <U>      the type of the values
+     * @return a {@code Collector} of a {@link Reduction}
+     */
+    public static <T, U> Collector<T, ?, Reduction<U>> reducing(
+            U identity,
+            ThrowingFunction<? super T, ? extends U, ? extends Throwable> function,
+            BinaryOperator<U> operator) {
+        return Collector.of(
+                () -> new Accumulator<>(identity),
+                (accumulator, element) -> {
+                    try {
+                        accumulator.value = operator.apply(accumulator.value, function.apply(element));
+                        accumulator.successCount++;
+                    } catch (Throwable e) {
+                        TryEvents.failed(e);
+                        accumulator.failureCount++;
+                    }
+                },
+                (left, right) -> {
+                    left.value = operator.apply(left.value, right.value);
+                    left.successCount += right.successCount;
+                    left.failureCount += right.failureCount;
+                    return left;
+                },
+                accumulator -> new Reduction<>(accumulator.value, accumulator.successCount,
+                        accumulator.failureCount));
+    }
+
+    /**
+     * Sums the values of the elements for which the function succeeded, counting the ones for
+     * which it failed. Neither the value of an element nor the sum is boxed.
+     *
+     * @param function the function to apply to each element
+     * @param <T>      the type of the elements
+     * @return a {@code Collector} of a {@link Reduction}
+     */
+    public static <T> Collector<T, ?, Reduction<Long>> summingLong(
+            ToLongThrowingFunction<? super T, ? extends Throwable> function) {
+        return Collector.of(
+                () -> new long[3],
+                (sum, element) -> {
+                    try {
+                        sum[0] += function.apply(element);
+                        sum[1]++;
+                    } catch (Throwable e) {
+                        TryEvents.failed(e);
+                        sum[2]++;
+                    }
+                },
+                (left, right) -> {
+                    left[0] += right[0];
+                    left[1] += right[1];
+                    left[2] += right[2];
+                    return left;
+                },
+                sum -> new Reduction<>(sum[0], sum[1], sum[2]));
+    }
+
+    private static final class Accumulator<U> {
+        private U value;
+        private long successCount;
+        private long failureCount;
+
+        private Accumulator(U identity) {
+            this.value = identity;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package io.github.tiagobohnenberger.fntry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import jakarta.annotation.Nullable;
+
+final class Hedging {
+
+    private Hedging() {
+    }
+
+    /**
+     * Runs the try, and up to {@code maxHedges} more attempts of it, each one once the previous
+     * ones are running for the delay without success, or right away once they all failed.
+     *
+     * <p>The latency recorded is the one of the whole call, from the first launch, whether it
+     * succeeded or not: the winner's own latency would leave out the time waited before it was
+     * launched, and the slow attempts, biasing the percentile, and so the delay, downwards.
+     */
+    static <T> Step<T> hedge(Try<T, ? extends Throwable> aTry, long delayNanos, int maxHedges, Executor executor,
+                             @Nullable LatencyPercentile latency) {
+        if (maxHedges < 0) {
+            throw new IllegalArgumentException("maxHedges must not be negative: " + maxHedges);
+        }
+        BlockingQueue<Attempt<T>> completed = new LinkedBlockingQueue<>();
+        List<Attempt<T>> attempts = new ArrayList<>(maxHedges + 1);
+        List<Throwable> failures = new ArrayList<>(maxHedges + 1);
+        long start = System.nanoTime();
+        launch(aTry, executor, attempts, completed);
+        int running = 1;
+
+        try {
+            while (true) {
+                boolean canHedge = attempts.size() <= maxHedges;
+                Attempt<T> attempt = canHedge
+                        ? completed.poll(delayNanos, TimeUnit.NANOSECONDS)
+                        : completed.take();
+                if (attempt == null) {
+                    launch(aTry, executor, attempts, completed);
+                    running++;
+                    continue;
+                }
+
+                running--;
+                if (!attempt.step.isFailed()) {
+                    return record(latency, start, attempt.step);
+                }
+                failures.add(attempt.step.getException());
+                if (running == 0) {
+                    if (!canHedge) {
+                        return record(latency, start, failures.size() == 1 ? attempt.step : Step.failed(aggregate(failures)));
+                    }
+                    launch(aTry, executor, attempts, completed);
+                    running++;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Step.failed(e);
+        } finally {
+            for (Attempt<T> attempt : attempts) {
+                attempt.task.cancel(true);
+            }
+        }
+    }
+
+    private static <T> void launch(Try<T, ? extends Throwable> aTry, Executor executor,
+                                   List<Attempt<T>> attempts, BlockingQueue<Attempt<T>> completed) {
+        Attempt<T> attempt = new Attempt<>(aTry, completed);
+        attempts.add(attempt);
+        try {
+            executor.execute(attempt.task);
+        } catch (Throwable e) {
+            attempt.complete(Step.failed(e));
+        }
+    }
+
+    private static <T> Step<T> record(@Nullable LatencyPercentile latency, long start, Step<T> step) {
+        if (latency != null) {
+            latency.record(System.nanoTime() - start);
+        }
+        return step;
+    }
+
+    /**
+     * Keeps the exceptions of the later attempts as suppressed by the first one, unless it's the
+     * shared instance of an {@linkplain Failures expected} type.
+     */
+    private static Throwable aggregate(List<Throwable> failures) {
+        Throwable first = failures.get(0);
+        if (!Failures.isExpected(first.getClass())) {
+            for (int i = 1; i < failures.size(); i++) {
+                if (failures.get(i) != first) {
+                    first.addSuppressed(failures.get(i));
+                }
+            }
+        }
+        return first;
+    }
+
+    private static final class Attempt<T> {
+        private final FutureTask<Void> task;
+        private final BlockingQueue<Attempt<T>> completed;
+        private Step<T> step;
+
+        private Attempt(Try<T, ? extends Throwable> aTry, BlockingQueue<Attempt<T>> completed) {
+            this.completed = completed;
+            this.task = new FutureTask<>(() -> {
+                this.complete(Try.of(aTry));
+                return null;
+            });
+        }
+
+        private void complete(Step<T> result) {
+            this.step = result;
+            completed.add(this);
+        }
+    }
+}
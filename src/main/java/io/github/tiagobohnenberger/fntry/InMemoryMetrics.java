@@ -0,0 +1,104 @@
+package io.github.tiagobohnenberger.fntry;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import jakarta.annotation.Nullable;
+
+/**
+ * A {@link MetricsRecorder} that keeps, for each name, the number of calls, the number of
+ * failures by exception type and a {@linkplain LatencyHistogram histogram} of the latencies.
+ *
+ * <p>Recording is lock-free once a name and an exception type were seen.
+ */
+public final class InMemoryMetrics implements MetricsRecorder {
+
+    private final ConcurrentMap<String, Stats> stats = new ConcurrentHashMap<>();
+
+    @Override
+    public void onSuccess(String name, long latencyNanos) {
+        this.statsOf(name).record(latencyNanos);
+    }
+
+    @Override
+    public void onFailure(String name, long latencyNanos, Throwable failure) {
+        Stats statsOfName = this.statsOf(name);
+        statsOfName.record(latencyNanos);
+        statsOfName.failures.computeIfAbsent(failure.getClass(), type -> new LongAdder()).increment();
+    }
+
+    /**
+     * @param name the name of the tries
+     * @return the stats of the name, or {@code null} if none was recorded
+     */
+    @Nullable
+    public Stats get(String name) {
+        return stats.get(name);
+    }
+
+    /**
+     * @return the stats of every recorded name
+     */
+    public Map<String, Stats> getAll() {
+        return Collections.unmodifiableMap(stats);
+    }
+
+    private Stats statsOf(String name) {
+        Stats statsOfName = stats.get(name);
+        return statsOfName != null ? statsOfName : stats.computeIfAbsent(name, n -> new Stats());
+    }
+
+    /**
+     * The recorded outcomes of the tries of a name.
+     */
+    public static final class Stats {
+        private final LongAdder calls = new LongAdder();
+        private final ConcurrentMap<Class<? extends Throwable>, LongAdder> failures = new ConcurrentHashMap<>();
+        private final LatencyHistogram latency = new LatencyHistogram();
+
+        private Stats() {
+        }
+
+        private void record(long latencyNanos) {
+            calls.increment();
+            latency.record(latencyNanos);
+        }
+
+        /**
+         * @return the number of calls
+         */
+        public long getCalls() {
+            return calls.sum();
+        }
+
+        /**
+         * @return the number of failed calls
+         */
+        public long getFailures() {
+            long sum = 0;
+            for (LongAdder adder : failures.values()) {
+                sum += adder.sum();
+            }
+            return sum;
+        }
+
+        /**
+         * @return the number of failed calls by the type of their exception
+         */
+        public Map<Class<? extends Throwable>, Long> getFailuresByType() {
+            Map<Class<? extends Throwable>, Long> byType = new HashMap<>();
+            failures.forEach((type, adder) -> byType.put(type, adder.sum()));
+            return byType;
+        }
+
+        /**
+         * @return the histogram of the latencies of every call
+         */
+        public LatencyHistogram getLatency() {
+            return latency;
+        }
+    }
+}
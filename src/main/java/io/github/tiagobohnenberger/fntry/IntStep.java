@@ -0,0 +1,54 @@
+package io.github.tiagobohnenberger.fntry;
+
+import java.util.function.IntPredicate;
+
+/**
+ * A {@link Step} on an {@code int} value, that keeps the value unboxed through the chain:
+ * <blockquote><pre>
+ *  int port = Try.ofInt(() -&gt; Integer.parseInt(s))
+ *          .apply(i -&gt; i * 2)
+ *          .filter(i -&gt; i &lt; 65536)
+ *          .orElse(0);
+ * </pre></blockquote>
+ *
+ * @see Try#ofInt(IntTry)
+ */
+public interface IntStep extends IntResult {
+
+    static IntStep with(int initValue) {
+        return new IntStepImpl(initValue);
+    }
+
+    static IntStep failed(Throwable e) {
+        return IntStepImpl.failed(e);
+    }
+
+    /**
+     * Maps the value of the step and returns an {@code IntResult}, where can be
+     * applied a fallback.
+     *
+     * @param function the function of the mapper operation
+     * @return the {@code IntResult}
+     * @see Step#map(ThrowingFunction)
+     */
+    IntResult map(IntUnaryThrowingOperator<? extends Throwable> function);
+
+    /**
+     * Applies an operation on the value of the step.
+     *
+     * @param function the operation
+     * @return the step
+     * @see Step#apply(UnaryThrowingOperator)
+     */
+    IntStep apply(IntUnaryThrowingOperator<? extends Throwable> function);
+
+    /**
+     * If the value is present in this {@code IntStep} and matches the given predicate,
+     * return an {@code IntStep} containing the filtered value.
+     *
+     * @param predicate the predicate to apply to the value, if present
+     * @return an {@code IntStep} containing the matched value
+     * @see Step#filter(java.util.function.Predicate)
+     */
+    IntStep filter(IntPredicate predicate);
+}
@@ -0,0 +1,87 @@
+package io.github.tiagobohnenberger.fntry;
+
+import java.util.function.IntPredicate;
+import jakarta.annotation.Nullable;
+
+final class IntStepImpl implements IntStep {
+    private static final IntStepImpl EMPTY = new IntStepImpl(0, null, false);
+
+    private final int result;
+    @Nullable
+    private final Throwable throwable;
+    private final boolean present;
+
+    private IntStepImpl(int result, @Nullable Throwable throwable, boolean present) {
+        this.result = result;
+        this.throwable = throwable;
+        this.present = present;
+    }
+
+    IntStepImpl(int result) {
+        this(result, null, true);
+    }
+
+    static IntStepImpl failed(Throwable e) {
+        return new IntStepImpl(0, e, false);
+    }
+
+    @Override
+    public IntStepImpl map(IntUnaryThrowingOperator<? extends Throwable> function) {
+        return this.apply(function);
+    }
+
+    @Override
+    public IntStepImpl apply(IntUnaryThrowingOperator<? extends Throwable> function) {
+        if (!present) {
+            return this;
+        }
+
+        try {
+            return this.next(function.apply(result));
+        } catch (Throwable e) {
+            TryEvents.failed(e);
+            return failed(e);
+        }
+    }
+
+    @Override
+    public IntStepImpl filter(IntPredicate predicate) {
+        if (!present) {
+            return this;
+        }
+
+        boolean matches;
+        try {
+            matches = predicate.test(result);
+        } catch (Throwable e) {
+            matches = false;
+        }
+        return matches ? this : EMPTY;
+    }
+
+    @Override
+    public boolean isFailed() {
+        return throwable != null;
+    }
+
+    @Override
+    public boolean isPresent() {
+        return present;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Nullable
+    @Override
+    public <E extends Throwable> E getException() {
+        return (E) this.throwable;
+    }
+
+    @Override
+    public int getAsInt() {
+        return result;
+    }
+
+    private IntStepImpl next(int newResult) {
+        return newResult == result ? this : new IntStepImpl(newResult);
+    }
+}
@@ -0,0 +1,19 @@
+package io.github.tiagobohnenberger.fntry;
+
+/**
+ * A {@link Try} that produces an {@code int}, without boxing it.
+ *
+ * @param <E> checked exception
+ * @see Try#ofInt(IntTry)
+ */
+@FunctionalInterface
+public interface IntTry<E extends Throwable> {
+
+    /**
+     * Runs a try and returns the result.
+     *
+     * @return the try operation result
+     * @throws E type that can be thrown by the try operation
+     */
+    int apply() throws E;
+}
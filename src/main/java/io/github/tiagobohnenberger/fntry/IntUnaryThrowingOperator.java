@@ -0,0 +1,20 @@
+package io.github.tiagobohnenberger.fntry;
+
+/**
+ * An {@link UnaryThrowingOperator} on an {@code int} operand, without boxing it.
+ *
+ * @param <E> exception type
+ * @see IntStep
+ */
+@FunctionalInterface
+public interface IntUnaryThrowingOperator<E extends Throwable> {
+
+    /**
+     * Applies this function to the given argument.
+     *
+     * @param operand the operand
+     * @return the function result
+     * @throws E the type or subtype of {@code Throwable} that can be thrown
+     */
+    int apply(int operand) throws E;
+}
@@ -0,0 +1,88 @@
+package io.github.tiagobohnenberger.fntry;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free histogram of latencies, in nanoseconds.
+ *
+ * <p>Like an HdrHistogram, it splits each power of two into {@value #SUB_BUCKETS} linear
+ * buckets, so any recorded value, from a nanosecond up to {@link Long#MAX_VALUE}, is kept
+ * within about 3% of its magnitude in a fixed array of counters.
+ *
+ * @see InMemoryMetrics
+ */
+public final class LatencyHistogram {
+
+    static final int SUB_BUCKET_BITS = 5;
+    static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    private final AtomicLongArray counts = new AtomicLongArray((64 - SUB_BUCKET_BITS) * SUB_BUCKETS);
+    private final LongAdder count = new LongAdder();
+
+    /**
+     * @param latencyNanos a latency, in nanoseconds; a negative one is recorded as zero
+     */
+    public void record(long latencyNanos) {
+        counts.incrementAndGet(indexOf(Math.max(0, latencyNanos)));
+        count.increment();
+    }
+
+    /**
+     * @return the number of recorded latencies
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * @param percentile the percentile, between 0 and 1
+     * @return the latency, in nanoseconds, that the given share of the recorded latencies doesn't
+     * exceed, or {@code 0} if there's none
+     */
+    public long getPercentile(double percentile) {
+        long total = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            total += counts.get(i);
+        }
+        long rank = Math.max(1, (long) Math.ceil(Math.min(1, Math.max(0, percentile)) * total));
+        long seen = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return highestValueOf(i);
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * @return the highest recorded latency, in nanoseconds, or {@code 0} if there's none
+     */
+    public long getMax() {
+        for (int i = counts.length() - 1; i >= 0; i--) {
+            if (counts.get(i) > 0) {
+                return highestValueOf(i);
+            }
+        }
+        return 0;
+    }
+
+    static int indexOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int magnitude = 63 - Long.numberOfLeadingZeros(value);
+        int shift = magnitude - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) ((value >>> shift) & (SUB_BUCKETS - 1));
+    }
+
+    static long highestValueOf(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long lowest = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+        return lowest + ((1L << shift) - 1);
+    }
+}
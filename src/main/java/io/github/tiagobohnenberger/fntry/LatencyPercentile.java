@@ -0,0 +1,76 @@
+package io.github.tiagobohnenberger.fntry;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import jakarta.annotation.Nonnull;
+
+/**
+ * A live estimate of a percentile of the latency of an operation, over its last
+ * {@value #WINDOW} recorded calls, such as the delay before a
+ * {@linkplain Try#hedged(Try, LatencyPercentile, int, java.util.concurrent.Executor) hedged}
+ * attempt:
+ * <blockquote><pre>
+ *  LatencyPercentile p95 = new LatencyPercentile(0.95, Duration.ofMillis(50));
+ *
+ *  Item item = Try.hedged(() -&gt; store.read(id), p95, 1, ioExecutor).orElse(Item.MISSING);
+ * </pre></blockquote>
+ *
+ * <p>The estimate is recomputed every {@value #REFRESH} recorded calls, and is the initial
+ * one until the first of them. It's lock-free and meant to be shared between threads.
+ */
+public final class LatencyPercentile {
+
+    static final int WINDOW = 256;
+    static final int REFRESH = 32;
+
+    private final double percentile;
+    private final AtomicLongArray samples = new AtomicLongArray(WINDOW);
+    private final AtomicLong recorded = new AtomicLong();
+    private volatile long estimateNanos;
+
+    /**
+     * @param percentile the percentile, between 0 (exclusive) and 1 (inclusive)
+     * @param initial    the estimate until enough calls are recorded
+     * @throws IllegalArgumentException if the percentile is out of range or the initial estimate is negative
+     */
+    public LatencyPercentile(double percentile, @Nonnull Duration initial) {
+        if (!(percentile > 0 && percentile <= 1) || initial.isNegative()) {
+            throw new IllegalArgumentException("invalid latency percentile: " + percentile + " from " + initial);
+        }
+        this.percentile = percentile;
+        this.estimateNanos = initial.toNanos();
+    }
+
+    /**
+     * @param latencyNanos the latency of a call, in nanoseconds
+     */
+    public void record(long latencyNanos) {
+        long call = recorded.getAndIncrement();
+        samples.set((int) (call % WINDOW), latencyNanos);
+        if ((call + 1) % REFRESH == 0) {
+            this.refresh((int) Math.min(call + 1, WINDOW));
+        }
+    }
+
+    /**
+     * @return the current estimate
+     */
+    public Duration get() {
+        return Duration.ofNanos(estimateNanos);
+    }
+
+    long getNanos() {
+        return estimateNanos;
+    }
+
+    private void refresh(int count) {
+        long[] sorted = new long[count];
+        for (int i = 0; i < count; i++) {
+            sorted[i] = samples.get(i);
+        }
+        Arrays.sort(sorted);
+        estimateNanos = sorted[(int) Math.ceil(percentile * count) - 1];
+    }
+}
@@ -0,0 +1,81 @@
+package io.github.tiagobohnenberger.fntry;
+
+import java.util.function.Predicate;
+
+/**
+ * A {@linkplain Step step} that records its operations instead of running them.
+ *
+ * <p>Neither the try nor any recorded operation runs until a terminal method, such as
+ * {@link #get()}, {@link #isFailed()} or one of the {@linkplain FallbackStrategy fallbacks},
+ * is called. The whole chain then runs once, on a single
+ * <a href="Step.html#reusable-steps">reusable</a> carrier, skipping every operation after a
+ * failure, and its result is kept for the following terminal methods. Terminal methods called
+ * concurrently from other threads meanwhile wait for that run instead of starting their own:
+ * <blockquote><pre>
+ *  LazyStep&lt;Integer&gt; port = Try.lazy(() -&gt; config.get("port"))
+ *          .apply(String::trim)
+ *          .map(Integer::parseInt);
+ *
+ *  if (enabled) {
+ *      connect(port.orElse(8080)); // only now the chain runs
+ *  }
+ * </pre></blockquote>
+ *
+ * <p>Every recorded step is immutable, so a chain can be extended from any of its steps, and
+ * {@link #run()} runs it again from the try, without recording the operations again.
+ *
+ * @param <T> type of the step
+ * @see Try#lazy(Try)
+ */
+public interface LazyStep<T> extends Step<T> {
+
+    /**
+     * Runs the recorded chain from the try, whether or not it already ran.
+     *
+     * @return a {@code Step} of the result of this run
+     */
+    Step<T> run();
+
+    /**
+     * @return if the chain already ran for a terminal method
+     */
+    boolean isEvaluated();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    <E extends Throwable> LazyStep<T> consume(ThrowingConsumer<T, E> consumer);
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The returned result is itself a {@code LazyStep}, so the chain can continue.
+     */
+    @Override
+    <U, E extends Throwable> LazyStep<U> map(ThrowingFunction<T, ? extends U, E> function);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    LazyStep<T> apply(UnaryThrowingOperator<T, ? extends Throwable> function);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    LazyStep<T> filter(Predicate<T> predicate);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    <X extends Throwable> LazyStep<T> recover(Class<X> type, ThrowingFunction<? super X, ? extends T, ? extends Throwable> function);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    LazyStep<T> recoverWith(RecoveryTable<T> table);
+}
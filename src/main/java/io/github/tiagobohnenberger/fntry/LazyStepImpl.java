@@ -0,0 +1,135 @@
+package io.github.tiagobohnenberger.fntry;
+
+import java.util.function.Function;
+import java.util.function.Predicate;
+import jakarta.annotation.Nullable;
+
+class LazyStepImpl<T> implements LazyStep<T> {
+    @Nullable
+    private final Try<?, ? extends Throwable> aTry;
+    @Nullable
+    private final LazyStepImpl<?> previous;
+    @Nullable
+    private final Function<StepImpl<?>, StepImpl<?>> operation;
+    @Nullable
+    private volatile StepImpl<T> evaluated;
+
+    private LazyStepImpl(@Nullable Try<?, ? extends Throwable> aTry, @Nullable LazyStepImpl<?> previous,
+                         @Nullable Function<StepImpl<?>, StepImpl<?>> operation) {
+        this.aTry = aTry;
+        this.previous = previous;
+        this.operation = operation;
+    }
+
+    static <T> LazyStep<T> of(Try<T, ? extends Throwable> aTry) {
+        return new LazyStepImpl<>(aTry, null, null);
+    }
+
+    @Override
+    public StepImpl<T> run() {
+        return this.runReusable().detached();
+    }
+
+    @Override
+    public boolean isEvaluated() {
+        return evaluated != null;
+    }
+
+    // walks the chain back to the try and runs it forward, so a long chain doesn't recurse
+    @SuppressWarnings("unchecked")
+    private StepImpl<T> runReusable() {
+        int length = 0;
+        LazyStepImpl<?> first = this;
+        while (first.previous != null) {
+            first = first.previous;
+            length++;
+        }
+        LazyStepImpl<?>[] chain = new LazyStepImpl<?>[length];
+        for (LazyStepImpl<?> step = this; step.previous != null; step = step.previous) {
+            chain[--length] = step;
+        }
+
+        StepImpl<?> step = (StepImpl<?>) Try.ofReusable(first.aTry);
+        for (LazyStepImpl<?> next : chain) {
+            step = next.operation.apply(step);
+        }
+        return (StepImpl<T>) step;
+    }
+
+    private StepImpl<T> evaluate() {
+        StepImpl<T> step = evaluated;
+        if (step == null) {
+            synchronized (this) {
+                step = evaluated;
+                if (step == null) {
+                    step = this.run();
+                    evaluated = step;
+                }
+            }
+        }
+        return step;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <U> LazyStepImpl<U> then(Function<StepImpl<T>, StepImpl<U>> nextOperation) {
+        return new LazyStepImpl<>(null, this, step -> nextOperation.apply((StepImpl<T>) step));
+    }
+
+    @Override
+    public <E extends Throwable> LazyStep<T> consume(ThrowingConsumer<T, E> consumer) {
+        return this.then(step -> step.consume(consumer));
+    }
+
+    @Override
+    public <U, E extends Throwable> LazyStep<U> map(ThrowingFunction<T, ? extends U, E> function) {
+        return this.then(step -> step.map(function));
+    }
+
+    @Override
+    public LazyStep<T> apply(UnaryThrowingOperator<T, ? extends Throwable> function) {
+        return this.then(step -> step.apply(function));
+    }
+
+    @Override
+    public LazyStep<T> filter(Predicate<T> predicate) {
+        return this.then(step -> step.filter(predicate));
+    }
+
+    @Override
+    public <X extends Throwable> LazyStep<T> recover(Class<X> type,
+                                                    ThrowingFunction<? super X, ? extends T, ? extends Throwable> function) {
+        return this.then(step -> step.recover(type, function));
+    }
+
+    @Override
+    public LazyStep<T> recoverWith(RecoveryTable<T> table) {
+        return this.then(step -> step.recoverWith(table));
+    }
+
+    @Override
+    public Result<T> getResult() {
+        return this.evaluate();
+    }
+
+    @Override
+    public T orElse(T other) {
+        return this.evaluate().orElse(other);
+    }
+
+    @Override
+    public boolean isFailed() {
+        return this.evaluate().isFailed();
+    }
+
+    @Nullable
+    @Override
+    public <E extends Throwable> E getException() {
+        return this.evaluate().getException();
+    }
+
+    @Nullable
+    @Override
+    public T get() {
+        return this.evaluate().get();
+    }
+}
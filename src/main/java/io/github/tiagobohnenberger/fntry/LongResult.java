@@ -0,0 +1,118 @@
+package io.github.tiagobohnenberger.fntry;
+
+import java.util.OptionalLong;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+/**
+ * A {@link Result} of a {@code long} operation, that keeps the value unboxed.
+ *
+ * <p>Where a {@code Result} would hold a {@code null} value, such as after a {@code filter} that
+ * doesn't match, a {@code LongResult} has no value and isn't {@linkplain #isPresent() present}.
+ *
+ * @see LongStep
+ */
+public interface LongResult {
+
+    /**
+     * @return if an operation has failed due to any exception that might occur.
+     */
+    boolean isFailed();
+
+    /**
+     * @return if there's a value, meaning the operation didn't fail nor was filtered out
+     */
+    boolean isPresent();
+
+    /**
+     * @param <E> the type o the error
+     * @return The exception responsible for this failing {@code LongResult}, if that
+     * is the case.
+     * It might be {@code null}
+     */
+    @Nullable
+    <E extends Throwable> E getException();
+
+    /**
+     * @return the result of the operation, {@code 0L} if it isn't {@linkplain #isPresent() present}
+     */
+    long getAsLong();
+
+    /**
+     * @return an {@code OptionalLong} of the result
+     */
+    default OptionalLong asOptional() {
+        return this.isPresent() ? OptionalLong.of(this.getAsLong()) : OptionalLong.empty();
+    }
+
+    /**
+     * @return a boxed {@code Step} of this result
+     */
+    default Step<Long> boxed() {
+        if (this.isFailed()) {
+            return Step.failed(this.getException());
+        }
+        return Step.with(this.isPresent() ? this.getAsLong() : null);
+    }
+
+    /**
+     * @param other to provide if there's no value
+     * @return other result value if this fails or isn't present
+     * @see FallbackStrategy#orElse(Object)
+     */
+    default long orElse(long other) {
+        return this.isPresent() ? this.getAsLong() : other;
+    }
+
+    /**
+     * @param otherSupplier the supplier function
+     * @return the value, or the one of the supplier if there's no value
+     * @see FallbackStrategy#orElseGet(java.util.function.Supplier)
+     */
+    default long orElseGet(@Nonnull LongSupplier otherSupplier) {
+        return this.isPresent() ? this.getAsLong() : otherSupplier.getAsLong();
+    }
+
+    /**
+     * A fallback operation in case of a previously failed result.
+     *
+     * @param fallbackOperator the fallback operator, which receives {@code 0L}
+     * @param other            the value if the {@code fallbackOperator} throws any exception
+     * @return the value, the one of the fallback operator if this failed, or {@code other}
+     * @see FallbackStrategy#orThen(UnaryThrowingOperator)
+     */
+    default long orThen(LongUnaryThrowingOperator<? extends Throwable> fallbackOperator, long other) {
+        long result = this.getAsLong();
+        if (this.isFailed()) {
+            try {
+                return fallbackOperator.apply(result);
+            } catch (Throwable e) {
+                return other;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @param fallbackOperation a simple function to run if this failed
+     * @see FallbackStrategy#orSimply(SimpleFunction)
+     */
+    default void orSimply(SimpleFunction fallbackOperation) {
+        if (this.isFailed()) {
+            fallbackOperation.apply();
+        }
+    }
+
+    /**
+     * @param fallbackThrowingConsumer the consuming operation for an exception type
+     * @param <E>                      the type of the exception
+     * @see FallbackStrategy#otherwise(Consumer)
+     */
+    default <E extends Throwable> void otherwise(Consumer<E> fallbackThrowingConsumer) {
+        if (this.isFailed()) {
+            fallbackThrowingConsumer.accept(this.getException());
+        }
+    }
+}
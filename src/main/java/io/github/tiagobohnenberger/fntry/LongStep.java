@@ -0,0 +1,54 @@
+package io.github.tiagobohnenberger.fntry;
+
+import java.util.function.LongPredicate;
+
+/**
+ * A {@link Step} on a {@code long} value, that keeps the value unboxed through the chain:
+ * <blockquote><pre>
+ *  long bytes = Try.ofLong(() -&gt; Long.parseLong(s))
+ *          .apply(kb -&gt; Math.multiplyExact(kb, 1024))
+ *          .filter(b -&gt; b &gt; 0)
+ *          .orElse(0L);
+ * </pre></blockquote>
+ *
+ * @see Try#ofLong(LongTry)
+ */
+public interface LongStep extends LongResult {
+
+    static LongStep with(long initValue) {
+        return new LongStepImpl(initValue);
+    }
+
+    static LongStep failed(Throwable e) {
+        return LongStepImpl.failed(e);
+    }
+
+    /**
+     * Maps the value of the step and returns a {@code LongResult}, where can be
+     * applied a fallback.
+     *
+     * @param function the function of the mapper operation
+     * @return the {@code LongResult}
+     * @see Step#map(ThrowingFunction)
+     */
+    LongResult map(LongUnaryThrowingOperator<? extends Throwable> function);
+
+    /**
+     * Applies an operation on the value of the step.
+     *
+     * @param function the operation
+     * @return the step
+     * @see Step#apply(UnaryThrowingOperator)
+     */
+    LongStep apply(LongUnaryThrowingOperator<? extends Throwable> function);
+
+    /**
+     * If the value is present in this {@code LongStep} and matches the given predicate,
+     * return a {@code LongStep} containing the filtered value.
+     *
+     * @param predicate the predicate to apply to the value, if present
+     * @return a {@code LongStep} containing the matched value
+     * @see Step#filter(java.util.function.Predicate)
+     */
+    LongStep filter(LongPredicate predicate);
+}
@@ -0,0 +1,87 @@
+package io.github.tiagobohnenberger.fntry;
+
+import java.util.function.LongPredicate;
+import jakarta.annotation.Nullable;
+
+final class LongStepImpl implements LongStep {
+    private static final LongStepImpl EMPTY = new LongStepImpl(0L, null, false);
+
+    private final long result;
+    @Nullable
+    private final Throwable throwable;
+    private final boolean present;
+
+    private LongStepImpl(long result, @Nullable Throwable throwable, boolean present) {
+        this.result = result;
+        this.throwable = throwable;
+        this.present = present;
+    }
+
+    LongStepImpl(long result) {
+        this(result, null, true);
+    }
+
+    static LongStepImpl failed(Throwable e) {
+        return new LongStepImpl(0L, e, false);
+    }
+
+    @Override
+    public LongStepImpl map(LongUnaryThrowingOperator<? extends Throwable> function) {
+        return this.apply(function);
+    }
+
+    @Override
+    public LongStepImpl apply(LongUnaryThrowingOperator<? extends Throwable> function) {
+        if (!present) {
+            return this;
+        }
+
+        try {
+            return this.next(function.apply(result));
+        } catch (Throwable e) {
+            TryEvents.failed(e);
+            return failed(e);
+        }
+    }
+
+    @Override
+    public LongStepImpl filter(LongPredicate predicate) {
+        if (!present) {
+            return this;
+        }
+
+        boolean matches;
+        try {
+            matches = predicate.test(result);
+        } catch (Throwable e) {
+            matches = false;
+        }
+        return matches ? this : EMPTY;
+    }
+
+    @Override
+    public boolean isFailed() {
+        return throwable != null;
+    }
+
+    @Override
+    public boolean isPresent() {
+        return present;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Nullable
+    @Override
+    public <E extends Throwable> E getException() {
+        return (E) this.throwable;
+    }
+
+    @Override
+    public long getAsLong() {
+        return result;
+    }
+
+    private LongStepImpl next(long newResult) {
+        return newResult == result ? this : new LongStepImpl(newResult);
+    }
+}
@@ -0,0 +1,19 @@
+package io.github.tiagobohnenberger.fntry;
+
+/**
+ * A {@link Try} that produces a {@code long}, without boxing it.
+ *
+ * @param <E> checked exception
+ * @see Try#ofLong(LongTry)
+ */
+@FunctionalInterface
+public interface LongTry<E extends Throwable> {
+
+    /**
+     * Runs a try and returns the result.
+     *
+     * @return the try operation result
+     * @throws E type that can be thrown by the try operation
+     */
+    long apply() throws E;
+}
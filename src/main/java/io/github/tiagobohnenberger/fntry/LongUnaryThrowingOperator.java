@@ -0,0 +1,20 @@
+package io.github.tiagobohnenberger.fntry;
+
+/**
+ * An {@link UnaryThrowingOperator} on a {@code long} operand, without boxing it.
+ *
+ * @param <E> exception type
+ * @see LongStep
+ */
+@FunctionalInterface
+public interface LongUnaryThrowingOperator<E extends Throwable> {
+
+    /**
+     * Applies this function to the given argument.
+     *
+     * @param operand the operand
+     * @return the function result
+     * @throws E the type or subtype of {@code Throwable} that can be thrown
+     */
+    long apply(long operand) throws E;
+}
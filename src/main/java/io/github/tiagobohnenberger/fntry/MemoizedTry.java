@@ -0,0 +1,159 @@
+package io.github.tiagobohnenberger.fntry;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A {@linkplain ThrowingFunction function} whose results are kept by key, according to
+ * a {@link CacheSpec}:
+ * <blockquote><pre>
+ *  MemoizedTry&lt;String, InetAddress&gt; resolver = Try.memoize(InetAddress::getByName, spec);
+ *
+ *  InetAddress address = resolver.apply(host).orElse(fallbackAddress);
+ * </pre></blockquote>
+ *
+ * <p>Concurrent callers of a key that isn't kept share a single computation: one of them
+ * runs the function while the others wait for its {@linkplain Step step}, failed or not.
+ *
+ * <p>The kept results are held in a {@link ConcurrentHashMap}, so callers of different keys
+ * don't serialize on a common lock: a kept result is read without locking, and its only write
+ * is the time of the call stamped on its entry, which the callers of a hot key share. Adding a
+ * key only locks its bin of the map. The {@linkplain CacheSpec.Builder#maximumSize(int)
+ * maximum size} is enforced by the call that adds a key beyond it, which evicts the least
+ * recently used of up to {@value #EVICTION_SAMPLE} kept results rather than of all of them.
+ * Eviction is therefore approximate: a recently used result may be evicted before an older
+ * one outside of the sample, and concurrent callers adding keys may briefly keep a few more
+ * results than the maximum, or evict a few more. A result being computed is never evicted.
+ *
+ * <p>A call of the function for a key that calls the memoized function again with the same key
+ * would wait for itself, so it fails with an {@link IllegalStateException} instead.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ * @see Try#memoize(ThrowingFunction, CacheSpec)
+ */
+public final class MemoizedTry<K, V> implements ThrowingFunction<K, Step<V>, RuntimeException> {
+
+    static final int EVICTION_SAMPLE = 16;
+
+    private final ThrowingFunction<? super K, ? extends V, ? extends Throwable> function;
+    private final CacheSpec spec;
+    private final ConcurrentMap<K, Entry<V>> results = new ConcurrentHashMap<>();
+
+    MemoizedTry(ThrowingFunction<? super K, ? extends V, ? extends Throwable> function, CacheSpec spec) {
+        this.function = function;
+        this.spec = spec;
+    }
+
+    /**
+     * Returns the kept result of a key, or computes it.
+     *
+     * @param key the key
+     * @return a {@link Step} of the value of the key
+     */
+    @Override
+    public Step<V> apply(K key) {
+        long now = System.nanoTime();
+        Entry<V> entry = results.get(key);
+        while (entry == null || entry.isExpired(now)) {
+            Entry<V> created = new Entry<>(now);
+            boolean added = entry == null
+                    ? results.putIfAbsent(key, created) == null
+                    : results.replace(key, entry, created);
+            if (added) {
+                this.evict();
+                this.compute(key, created);
+                return created.step.join();
+            }
+            entry = results.get(key);
+        }
+        if (entry.computingThread == Thread.currentThread()) {
+            return Step.failed(new IllegalStateException("recursive memoized call for the key " + key));
+        }
+        entry.lastAccess = now;
+        return entry.step.join();
+    }
+
+    private void compute(K key, Entry<V> entry) {
+        Step<V> step;
+        try {
+            step = Try.of(() -> function.apply(key));
+        } finally {
+            entry.computingThread = null;
+        }
+        long ttl = step.isFailed() ? spec.getFailureTtlNanos() : spec.getExpireAfterWriteNanos();
+        if (ttl > 0) {
+            entry.expiresAt = System.nanoTime() + ttl;
+        } else if (step.isFailed()) {
+            results.remove(key, entry);
+        }
+        entry.step.complete(step);
+    }
+
+    /**
+     * Evicts the least recently used of a sample of the computed results while there are more
+     * than the maximum size.
+     */
+    private void evict() {
+        while (results.size() > spec.getMaximumSize()) {
+            Map.Entry<K, Entry<V>> eldest = null;
+            int sampled = 0;
+            for (Map.Entry<K, Entry<V>> candidate : results.entrySet()) {
+                Entry<V> entry = candidate.getValue();
+                if (entry.step.isDone() && (eldest == null || entry.lastAccess - eldest.getValue().lastAccess < 0)) {
+                    eldest = candidate;
+                }
+                if (++sampled == EVICTION_SAMPLE) {
+                    break;
+                }
+            }
+            if (eldest == null) {
+                return;
+            }
+            results.remove(eldest.getKey(), eldest.getValue());
+        }
+    }
+
+    /**
+     * Discards the result of a key, if kept.
+     *
+     * @param key the key
+     */
+    public void invalidate(K key) {
+        results.remove(key);
+    }
+
+    /**
+     * Discards every kept result.
+     */
+    public void invalidateAll() {
+        results.clear();
+    }
+
+    /**
+     * @return the number of kept results, including the ones being computed
+     */
+    public int size() {
+        return results.size();
+    }
+
+    private static final class Entry<V> {
+        private static final long NEVER = Long.MAX_VALUE;
+
+        private final CompletableFuture<Step<V>> step = new CompletableFuture<>();
+        private volatile Thread computingThread = Thread.currentThread();
+        private volatile long expiresAt = NEVER;
+        private volatile long lastAccess;
+
+        private Entry(long now) {
+            this.lastAccess = now;
+        }
+
+        private boolean isExpired(long now) {
+            long deadline = expiresAt;
+            return deadline != NEVER && now - deadline >= 0;
+        }
+    }
+}
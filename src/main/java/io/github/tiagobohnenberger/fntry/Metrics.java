@@ -0,0 +1,48 @@
+package io.github.tiagobohnenberger.fntry;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+/**
+ * The {@linkplain MetricsRecorder recorder} of the {@linkplain NamedTry named tries}.
+ * <blockquote><pre>
+ *  InMemoryMetrics metrics = new InMemoryMetrics();
+ *  Metrics.install(metrics);
+ *
+ *  User user = Try.named("dbLookup").of(() -&gt; users.find(id)).orElse(User.ANONYMOUS);
+ *
+ *  long p99 = metrics.get("dbLookup").getLatency().getPercentile(0.99);
+ * </pre></blockquote>
+ *
+ * <p>While no recorder is installed, a named try runs just like {@link Try#of(Try)}, without
+ * even reading the clock.
+ */
+public final class Metrics {
+
+    @Nullable
+    private static volatile MetricsRecorder recorder;
+
+    private Metrics() {
+    }
+
+    /**
+     * Installs the recorder of every named try, replacing the current one, if any.
+     *
+     * @param metricsRecorder the recorder
+     */
+    public static void install(@Nonnull MetricsRecorder metricsRecorder) {
+        recorder = metricsRecorder;
+    }
+
+    /**
+     * Removes the current recorder, if any, so that named tries are no longer recorded.
+     */
+    public static void uninstall() {
+        recorder = null;
+    }
+
+    @Nullable
+    static MetricsRecorder recorder() {
+        return recorder;
+    }
+}
@@ -0,0 +1,26 @@
+package io.github.tiagobohnenberger.fntry;
+
+/**
+ * Receives the outcome of every {@linkplain NamedTry named try}, once
+ * {@linkplain Metrics#install(MetricsRecorder) installed}.
+ *
+ * <p>It's called on the thread that ran the try, right after it, so it must be thread-safe
+ * and cheap, like {@link InMemoryMetrics}, or hand the outcome over to another thread.
+ *
+ * @see Metrics
+ */
+public interface MetricsRecorder {
+
+    /**
+     * @param name         the name of the try
+     * @param latencyNanos how long the try took, in nanoseconds
+     */
+    void onSuccess(String name, long latencyNanos);
+
+    /**
+     * @param name         the name of the try
+     * @param latencyNanos how long the try took, in nanoseconds
+     * @param failure      the exception of the try
+     */
+    void onFailure(String name, long latencyNanos, Throwable failure);
+}
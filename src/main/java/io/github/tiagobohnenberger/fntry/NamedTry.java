@@ -0,0 +1,74 @@
+package io.github.tiagobohnenberger.fntry;
+
+/**
+ * A site of {@linkplain Try tries} whose outcomes are recorded under a name by the
+ * {@linkplain Metrics#install(MetricsRecorder) installed} {@link MetricsRecorder}, if any.
+ *
+ * <p>A named try is immutable and can be kept in a constant:
+ * <blockquote><pre>
+ *  private static final NamedTry DB_LOOKUP = Try.named("dbLookup");
+ * </pre></blockquote>
+ *
+ * @see Try#named(String)
+ */
+public final class NamedTry {
+
+    private final String name;
+
+    NamedTry(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Same as {@link Try#of(Try)}, recording the outcome of the try.
+     *
+     * @param aTry the try operation
+     * @param <T>  the type of the provided value
+     * @return a {@linkplain Step} containing the initial value (that might be {@code null})
+     */
+    public <T> Step<T> of(Try<T, ? extends Throwable> aTry) {
+        MetricsRecorder recorder = Metrics.recorder();
+        if (recorder == null) {
+            return Try.of(aTry);
+        }
+
+        long start = System.nanoTime();
+        Step<T> step = Try.of(aTry);
+        this.record(recorder, System.nanoTime() - start, step);
+        return step;
+    }
+
+    /**
+     * Same as {@link Try#just(ThrowingSimpleFunction)}, recording the outcome of the operation.
+     *
+     * @param supplier the simple operation
+     * @param <E>      type that can be thrown
+     * @return {@link Result} of {@link Void}, representing a result with no contained value
+     */
+    public <E extends Throwable> Result<Void> just(ThrowingSimpleFunction<E> supplier) {
+        MetricsRecorder recorder = Metrics.recorder();
+        if (recorder == null) {
+            return Try.just(supplier);
+        }
+
+        long start = System.nanoTime();
+        Result<Void> result = Try.just(supplier);
+        this.record(recorder, System.nanoTime() - start, result);
+        return result;
+    }
+
+    /**
+     * @return the name of the tries
+     */
+    public String getName() {
+        return name;
+    }
+
+    private void record(MetricsRecorder recorder, long latencyNanos, Result<?> result) {
+        if (result.isFailed()) {
+            recorder.onFailure(name, latencyNanos, result.getException());
+        } else {
+            recorder.onSuccess(name, latencyNanos);
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package io.github.tiagobohnenberger.fntry;
+
+import java.util.Arrays;
+import java.util.function.Predicate;
+import jakarta.annotation.Nullable;
+
+/**
+ * Describes a chain of {@linkplain Step step} operations once, to apply it to many inputs.
+ * <blockquote><pre>
+ *  Pipeline.Compiled&lt;String, Integer&gt; port = Pipeline.&lt;String&gt;start()
+ *          .apply(String::trim)
+ *          .filter(s -&gt; !s.isEmpty())
+ *          .map(Integer::parseInt)
+ *          .compile();
+ *
+ *  for (Message message : messages) {
+ *      int value = port.apply(message.header("port")).orElse(8080);
+ *  }
+ * </pre></blockquote>
+ *
+ * <p>A compiled pipeline runs the whole chain in a single loop, with the same semantics of
+ * the equivalent {@code Step} chain, but without a {@code Step} per operation nor capturing
+ * the operations again for each input.
+ *
+ * <p>A pipeline is immutable: each operation returns a new one, so a pipeline can be extended
+ * from any of its operations and shared.
+ *
+ * @param <I> the type of the input
+ * @param <O> the type of the output
+ */
+public final class Pipeline<I, O> {
+
+    private static final Pipeline<?, ?> START = new Pipeline<>(new Stage[0]);
+
+    private final Stage[] stages;
+
+    private Pipeline(Stage[] stages) {
+        this.stages = stages;
+    }
+
+    /**
+     * @param <I> the type of the input
+     * @return a pipeline without operations, whose output is its input
+     */
+    @SuppressWarnings("unchecked")
+    public static <I> Pipeline<I, I> start() {
+        return (Pipeline<I, I>) START;
+    }
+
+    /**
+     * @param consumer the consumer operation
+     * @return the pipeline
+     * @see Step#consume(ThrowingConsumer)
+     */
+    @SuppressWarnings("unchecked")
+    public Pipeline<I, O> consume(ThrowingConsumer<O, ? extends Throwable> consumer) {
+        return this.then(new Stage(Stage.CONSUME, (ThrowingConsumer<Object, ?>) consumer));
+    }
+
+    /**
+     * @param function the function of the mapper operation
+     * @param <U>      the type of the output
+     * @return the pipeline
+     * @see Step#map(ThrowingFunction)
+     */
+    @SuppressWarnings("unchecked")
+    public <U> Pipeline<I, U> map(ThrowingFunction<O, ? extends U, ? extends Throwable> function) {
+        return this.then(new Stage(Stage.MAP, (ThrowingFunction<Object, Object, ?>) function));
+    }
+
+    /**
+     * @param function the operation
+     * @return the pipeline
+     * @see Step#apply(UnaryThrowingOperator)
+     */
+    @SuppressWarnings("unchecked")
+    public Pipeline<I, O> apply(UnaryThrowingOperator<O, ? extends Throwable> function) {
+        return this.then(new Stage(Stage.APPLY, (ThrowingFunction<Object, Object, ?>) function));
+    }
+
+    /**
+     * @param predicate the predicate to apply to the value, if present
+     * @return the pipeline
+     * @see Step#filter(Predicate)
+     */
+    @SuppressWarnings("unchecked")
+    public Pipeline<I, O> filter(Predicate<O> predicate) {
+        return this.then(new Stage(Stage.FILTER, (Predicate<Object>) predicate));
+    }
+
+    /**
+     * @return a function that runs every operation of this pipeline
+     */
+    public Compiled<I, O> compile() {
+        return new Compiled<>(stages);
+    }
+
+    private <U> Pipeline<I, U> then(Stage stage) {
+        Stage[] next = Arrays.copyOf(stages, stages.length + 1);
+        next[stages.length] = stage;
+        return new Pipeline<>(next);
+    }
+
+    /**
+     * A {@linkplain Pipeline pipeline} compiled into a function. It's stateless, so it can be
+     * shared, as long as its operations can be called concurrently.
+     *
+     * @param <I> the type of the input
+     * @param <O> the type of the output
+     */
+    public static final class Compiled<I, O> implements ThrowingFunction<I, Result<O>, RuntimeException> {
+
+        private final Stage[] stages;
+        /**
+         * The index after which a failure leaves no value, because a later {@code map} or
+         * {@code filter} would clear it, just like on a failed {@code Step}.
+         */
+        private final int clearedAfter;
+
+        private Compiled(Stage[] stages) {
+            this.stages = stages;
+            int last = -1;
+            for (int i = 0; i < stages.length; i++) {
+                if (stages[i].kind == Stage.MAP || stages[i].kind == Stage.FILTER) {
+                    last = i;
+                }
+            }
+            this.clearedAfter = last;
+        }
+
+        /**
+         * Runs the pipeline for an input.
+         *
+         * @param input the input
+         * @return a {@link Result} of the output
+         */
+        @Override
+        public Result<O> apply(@Nullable I input) {
+            return this.run(input, StepImpl.reusable(null)).detached();
+        }
+
+        /**
+         * Runs the pipeline for an input, writing the output into a
+         * <a href="Step.html#reusable-steps">reusable step</a> instead of creating a new {@code Result}.
+         *
+         * @param input  the input
+         * @param holder a reusable step, created by {@link Step#reusable(Object)}
+         * @return the {@code holder}, with the output
+         * @throws IllegalArgumentException if the {@code holder} isn't a reusable step
+         */
+        public Result<O> apply(@Nullable I input, Step<O> holder) {
+            if (!(holder instanceof StepImpl) || !((StepImpl<O>) holder).isReusable()) {
+                throw new IllegalArgumentException("holder must be a reusable step");
+            }
+            return this.run(input, (StepImpl<O>) holder);
+        }
+
+        @SuppressWarnings("unchecked")
+        private StepImpl<O> run(@Nullable I input, StepImpl<O> holder) {
+            Object value = input;
+            for (int i = 0; i < stages.length; i++) {
+                Stage stage = stages[i];
+                try {
+                    switch (stage.kind) {
+                        case Stage.CONSUME:
+                            stage.consumer.accept(value);
+                            break;
+                        case Stage.FILTER:
+                            value = value != null && stage.matches(value) ? value : null;
+                            break;
+                        default:
+                            value = stage.function.apply(value);
+                    }
+                } catch (Throwable e) {
+                    TryEvents.failed(e);
+                    return holder.reset((O) (stage.kind == Stage.MAP || i < clearedAfter ? null : value), e);
+                }
+            }
+            return holder.reset((O) value, null);
+        }
+    }
+
+    private static final class Stage {
+        private static final int CONSUME = 0;
+        private static final int MAP = 1;
+        private static final int APPLY = 2;
+        private static final int FILTER = 3;
+
+        private final int kind;
+        @Nullable
+        private final ThrowingFunction<Object, Object, ?> function;
+        @Nullable
+        private final ThrowingConsumer<Object, ?> consumer;
+        @Nullable
+        private final Predicate<Object> predicate;
+
+        private Stage(int kind, ThrowingFunction<Object, Object, ?> function) {
+            this.kind = kind;
+            this.function = function;
+            this.consumer = null;
+            this.predicate = null;
+        }
+
+        private Stage(int kind, ThrowingConsumer<Object, ?> consumer) {
+            this.kind = kind;
+            this.function = null;
+            this.consumer = consumer;
+            this.predicate = null;
+        }
+
+        private Stage(int kind, Predicate<Object> predicate) {
+            this.kind = kind;
+            this.function = null;
+            this.consumer = null;
+            this.predicate = predicate;
+        }
+
+        private boolean matches(Object value) {
+            try {
+                return predicate.test(value);
+            } catch (Throwable e) {
+                return false;
+            }
+        }
+    }
+}
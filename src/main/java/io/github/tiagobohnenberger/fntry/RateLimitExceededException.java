@@ -0,0 +1,17 @@
+package io.github.tiagobohnenberger.fntry;
+
+/**
+ * The failure of a call rejected by a {@linkplain RateLimiter rate limiter} that had no permit
+ * available within its timeout.
+ */
+public class RateLimitExceededException extends CallNotPermittedException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * @param message the detail message
+     */
+    public RateLimitExceededException(String message) {
+        super(message);
+    }
+}
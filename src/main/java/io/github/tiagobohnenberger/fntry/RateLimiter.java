@@ -0,0 +1,246 @@
+package io.github.tiagobohnenberger.fntry;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import jakarta.annotation.Nonnull;
+
+/**
+ * Limits the rate of calls to an operation, such as a quota-limited dependency.
+ * <blockquote><pre>
+ *  RateLimiter limiter = RateLimiter.builder("geocoding").limitForPeriod(100, Duration.ofSeconds(1)).build();
+ *
+ *  Location location = Try.rateLimited(limiter, () -&gt; geocoder.locate(address)).orElse(Location.UNKNOWN);
+ * </pre></blockquote>
+ *
+ * <p>The permits are spread evenly over the period, one every {@code period / permits}, while up
+ * to a {@linkplain Builder#burst(int) burst} of them may be taken at once after the limiter
+ * was idle. A call without a permit available within the {@linkplain Builder#timeout(Duration)
+ * timeout} isn't run: it's rejected with a {@link RateLimitExceededException}, right away by
+ * default. Otherwise the call waits for its permit, parking the calling thread, or, for an
+ * {@linkplain #ofAsync(Try, ScheduledExecutorService) asynchronous} call, being scheduled to
+ * run when the permit is due.
+ *
+ * <p>The limiter implements the generic cell rate algorithm (GCRA): its whole state is the
+ * theoretical arrival time of the next permit, which each call advances with a single
+ * compare-and-set, so the limiter is lock-free. A rejected call only reads that state.
+ */
+public final class RateLimiter {
+
+    private final String name;
+    private final long emissionIntervalNanos;
+    private final long toleranceNanos;
+    private final long timeoutNanos;
+    private final long origin = System.nanoTime();
+
+    // the theoretical arrival time of the next permit, in nanoseconds since the origin
+    private final AtomicLong arrival = new AtomicLong();
+
+    private RateLimiter(Builder builder) {
+        this.name = builder.name;
+        this.emissionIntervalNanos = Math.max(1, builder.period.toNanos() / builder.permits);
+        this.toleranceNanos = emissionIntervalNanos * ((builder.burst > 0 ? builder.burst : builder.permits) - 1);
+        this.timeoutNanos = builder.timeout.toNanos();
+    }
+
+    /**
+     * @param name the name of the rate limiter, used in the messages of its rejections
+     * @return a builder of a rate limiter of 50 calls per second, that doesn't wait for a permit
+     */
+    public static Builder builder(@Nonnull String name) {
+        return new Builder(name);
+    }
+
+    /**
+     * Runs {@linkplain Try the try} once a permit is available, waiting for it up to the timeout.
+     *
+     * @param aTry the try operation
+     * @param <T>  the type of the provided value
+     * @return a {@linkplain Step} of the try, or a failed one holding a
+     * {@link RateLimitExceededException} if no permit was available within the timeout, or an
+     * {@link InterruptedException} if the calling thread was interrupted while waiting
+     */
+    public <T> Step<T> of(Try<T, ? extends Throwable> aTry) {
+        long reserved = this.reserve();
+        if (reserved < 0) {
+            return Step.failed(this.exceeded());
+        }
+        long deadline = this.dueAt(reserved);
+        for (long remaining = deadline - System.nanoTime(); remaining > 0; remaining = deadline - System.nanoTime()) {
+            LockSupport.parkNanos(this, remaining);
+            if (Thread.interrupted()) {
+                Thread.currentThread().interrupt();
+                this.release(reserved);
+                return Step.failed(new InterruptedException("interrupted while waiting for rate limiter '" + name + "'"));
+            }
+        }
+        return Try.of(aTry);
+    }
+
+    /**
+     * Same as {@link #of(Try)}, but runs the try on the given scheduler, which schedules it for
+     * when its permit is due instead of blocking the calling thread.
+     *
+     * @param aTry      the try operation
+     * @param scheduler the scheduler that runs the try and the following operations
+     * @param <T>       the type of the provided value
+     * @return an {@linkplain AsyncStep} of the try, or of a failed step holding a
+     * {@link RateLimitExceededException} if no permit was available within the timeout
+     */
+    public <T> AsyncStep<T> ofAsync(Try<T, ? extends Throwable> aTry, ScheduledExecutorService scheduler) {
+        CompletableFuture<Step<T>> future = new CompletableFuture<>();
+        long reserved = this.reserve();
+        if (reserved < 0) {
+            future.complete(Step.failed(this.exceeded()));
+        } else {
+            long wait = this.dueAt(reserved) - System.nanoTime();
+            try {
+                if (wait <= 0) {
+                    scheduler.execute(() -> future.complete(Try.of(aTry)));
+                } else {
+                    scheduler.schedule(() -> future.complete(Try.of(aTry)), wait, TimeUnit.NANOSECONDS);
+                }
+            } catch (Throwable e) {
+                this.release(reserved);
+                future.complete(Step.failed(e));
+            }
+        }
+        return new AsyncStepImpl<>(future, scheduler);
+    }
+
+    /**
+     * Takes a permit if one is available right now, regardless of the timeout.
+     *
+     * @return if a permit was taken
+     */
+    public boolean tryAcquire() {
+        return this.reserve(0) >= 0;
+    }
+
+    /**
+     * @return the number of permits that could be taken right now
+     */
+    public int getAvailablePermits() {
+        long now = System.nanoTime() - origin;
+        long backlog = Math.max(0, arrival.get() - now);
+        return backlog > toleranceNanos ? 0 : (int) ((toleranceNanos - backlog) / emissionIntervalNanos + 1);
+    }
+
+    /**
+     * @return the name of the rate limiter
+     */
+    public String getName() {
+        return name;
+    }
+
+    private long reserve() {
+        return this.reserve(timeoutNanos);
+    }
+
+    /**
+     * Reserves the next permit if it's due within the maximum wait.
+     *
+     * @return the theoretical arrival time set by the reservation, or {@code -1} if none was reserved
+     */
+    private long reserve(long maxWaitNanos) {
+        while (true) {
+            long now = System.nanoTime() - origin;
+            long current = arrival.get();
+            long base = Math.max(current, now);
+            if (base - toleranceNanos - now > maxWaitNanos) {
+                return -1;
+            }
+            long next = base + emissionIntervalNanos;
+            if (arrival.compareAndSet(current, next)) {
+                return next;
+            }
+        }
+    }
+
+    /**
+     * @return the {@link System#nanoTime()} at which the permit of a reservation is due
+     */
+    private long dueAt(long reserved) {
+        return origin + reserved - emissionIntervalNanos - toleranceNanos;
+    }
+
+    /**
+     * Gives back the permit of a call that won't run, unless a later call has reserved one since,
+     * whose due time was computed after this one.
+     */
+    private void release(long reserved) {
+        arrival.compareAndSet(reserved, reserved - emissionIntervalNanos);
+    }
+
+    private RateLimitExceededException exceeded() {
+        return new RateLimitExceededException("rate limiter '" + name + "' has no permit available");
+    }
+
+    /**
+     * Builder of a {@link RateLimiter}.
+     */
+    public static final class Builder {
+        private final String name;
+        private int permits = 50;
+        private Duration period = Duration.ofSeconds(1);
+        private int burst;
+        private Duration timeout = Duration.ZERO;
+
+        private Builder(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Sets the rate of the permits, which are also the burst unless {@linkplain #burst(int) set}.
+         *
+         * @param permits the number of permits per period
+         * @param period  the period
+         * @return this builder
+         * @throws IllegalArgumentException if the number of permits or the period isn't positive
+         */
+        public Builder limitForPeriod(int permits, @Nonnull Duration period) {
+            if (permits <= 0 || period.isZero() || period.isNegative()) {
+                throw new IllegalArgumentException("invalid rate: " + permits + " per " + period);
+            }
+            this.permits = permits;
+            this.period = period;
+            return this;
+        }
+
+        /**
+         * @param burst the number of permits that may be taken at once after the limiter was idle
+         * @return this builder
+         * @throws IllegalArgumentException if the number isn't positive
+         */
+        public Builder burst(int burst) {
+            if (burst <= 0) {
+                throw new IllegalArgumentException("burst must be positive: " + burst);
+            }
+            this.burst = burst;
+            return this;
+        }
+
+        /**
+         * @param timeout how long a call may wait for a permit before being rejected
+         * @return this builder
+         * @throws IllegalArgumentException if the timeout is negative
+         */
+        public Builder timeout(@Nonnull Duration timeout) {
+            if (timeout.isNegative()) {
+                throw new IllegalArgumentException("timeout must not be negative: " + timeout);
+            }
+            this.timeout = timeout;
+            return this;
+        }
+
+        /**
+         * @return the {@link RateLimiter}
+         */
+        public RateLimiter build() {
+            return new RateLimiter(this);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package io.github.tiagobohnenberger.fntry;
+
+import java.util.HashMap;
+import java.util.Map;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+/**
+ * Handlers of exception types that recover a failed {@link Result}, built once and shared:
+ * <blockquote><pre>
+ *  static final RecoveryTable&lt;Response&gt; RECOVERY = RecoveryTable.&lt;Response&gt;builder()
+ *          .on(NotFoundException.class, e -&gt; Response.notFound())
+ *          .on(IOException.class, e -&gt; Response.unavailable(e.getMessage()))
+ *          .build();
+ *
+ *  Response response = Try.of(() -&gt; handle(request)).recoverWith(RECOVERY).orElse(Response.error());
+ * </pre></blockquote>
+ *
+ * <p>An exception is handled by the handler of its most specific registered type, that is, of the
+ * closest of its class and superclasses. The handler of each exception class is resolved once,
+ * then cached in a {@link ClassValue}, so dispatching a failure costs a single lookup however deep
+ * its hierarchy is.
+ *
+ * @param <T> the type of the recovered values
+ * @see Result#recover(Class, ThrowingFunction)
+ */
+public final class RecoveryTable<T> {
+
+    private static final ThrowingFunction<Throwable, ?, ?> NO_HANDLER = e -> null;
+
+    private final Map<Class<?>, ThrowingFunction<Throwable, ? extends T, ? extends Throwable>> handlers;
+    private final ClassValue<ThrowingFunction<Throwable, ? extends T, ? extends Throwable>> dispatch =
+            new ClassValue<ThrowingFunction<Throwable, ? extends T, ? extends Throwable>>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                protected ThrowingFunction<Throwable, ? extends T, ? extends Throwable> computeValue(Class<?> type) {
+                    for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+                        ThrowingFunction<Throwable, ? extends T, ? extends Throwable> handler = handlers.get(c);
+                        if (handler != null) {
+                            return handler;
+                        }
+                    }
+                    return (ThrowingFunction<Throwable, ? extends T, ? extends Throwable>) NO_HANDLER;
+                }
+            };
+
+    private RecoveryTable(Builder<T> builder) {
+        this.handlers = new HashMap<>(builder.handlers);
+    }
+
+    /**
+     * @param <T> the type of the recovered values
+     * @return a builder of an empty table
+     */
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * @param type the exception type
+     * @return if an exception of the type has a handler
+     */
+    public boolean handles(@Nonnull Class<? extends Throwable> type) {
+        return dispatch.get(type) != NO_HANDLER;
+    }
+
+    /**
+     * Recovers a failed result with the handler of its exception.
+     *
+     * @param result the result
+     * @return the result itself if it didn't fail or its exception has no handler, or else a
+     * {@link Step} of the handler's value, failed if the handler throws
+     */
+    public Result<T> recover(@Nonnull Result<T> result) {
+        if (!result.isFailed()) {
+            return result;
+        }
+        Throwable e = result.getException();
+        ThrowingFunction<Throwable, ? extends T, ? extends Throwable> handler = this.handlerOf(e);
+        return handler == null ? result : Try.of(() -> handler.apply(e));
+    }
+
+    @Nullable
+    ThrowingFunction<Throwable, ? extends T, ? extends Throwable> handlerOf(@Nullable Throwable e) {
+        if (e == null) {
+            return null;
+        }
+        ThrowingFunction<Throwable, ? extends T, ? extends Throwable> handler = dispatch.get(e.getClass());
+        return handler == NO_HANDLER ? null : handler;
+    }
+
+    /**
+     * Builder of a {@link RecoveryTable}.
+     *
+     * @param <T> the type of the recovered values
+     */
+    public static final class Builder<T> {
+
+        private final Map<Class<?>, ThrowingFunction<Throwable, ? extends T, ? extends Throwable>> handlers = new HashMap<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Registers the handler of an exception type and its subtypes, unless one of them has a
+         * handler of its own.
+         *
+         * @param type    the exception type
+         * @param handler recovers a value from the exception
+         * @param <X>     the exception type
+         * @return this builder
+         * @throws IllegalArgumentException if the type already has a handler
+         */
+        @SuppressWarnings("unchecked")
+        public <X extends Throwable> Builder<T> on(@Nonnull Class<X> type,
+                                                   @Nonnull ThrowingFunction<? super X, ? extends T, ? extends Throwable> handler) {
+            if (handlers.putIfAbsent(type, (ThrowingFunction<Throwable, ? extends T, ? extends Throwable>) handler) != null) {
+                throw new IllegalArgumentException("a handler of " + type.getName() + " is already registered");
+            }
+            return this;
+        }
+
+        /**
+         * @return the table
+         */
+        public RecoveryTable<T> build() {
+            return new RecoveryTable<>(this);
+        }
+    }
+}
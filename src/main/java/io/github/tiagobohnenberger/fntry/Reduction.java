@@ -0,0 +1,53 @@
+package io.github.tiagobohnenberger.fntry;
+
+import jakarta.annotation.Nullable;
+
+/**
+ * The reduction of the successful elements of a stream, along with how many elements failed.
+ *
+ * @param <U> the type of the reduced value
+ * @see FnTryCollectors#reducing(Object, ThrowingFunction, java.util.function.BinaryOperator)
+ * @see FnTryCollectors#summingLong(ToLongThrowingFunction)
+ */
+public final class Reduction<U> {
+
+    @Nullable
+    private final U value;
+    private final long successCount;
+    private final long failureCount;
+
+    Reduction(@Nullable U value, long successCount, long failureCount) {
+        this.value = value;
+        this.successCount = successCount;
+        this.failureCount = failureCount;
+    }
+
+    /**
+     * @return the reduced value of the successful elements, the identity if there is none
+     */
+    @Nullable
+    public U get() {
+        return value;
+    }
+
+    /**
+     * @return the number of successful elements
+     */
+    public long getSuccessCount() {
+        return successCount;
+    }
+
+    /**
+     * @return the number of failed elements
+     */
+    public long getFailureCount() {
+        return failureCount;
+    }
+
+    /**
+     * @return if any element failed
+     */
+    public boolean isFailed() {
+        return failureCount > 0;
+    }
+}
@@ -0,0 +1,163 @@
+package io.github.tiagobohnenberger.fntry;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import jakarta.annotation.Nonnull;
+
+/**
+ * A bounded pool of {@link AutoCloseable} resources that are expensive to create, such as
+ * parsers, channels or buffers, reused across calls instead of being created and closed by each:
+ * <blockquote><pre>
+ *  ResourcePool&lt;JsonParser&gt; parsers = ResourcePool.of(JsonParser::new, 16);
+ *
+ *  Order order = Try.using(parsers, parser -&gt; parser.parse(json, Order.class)).orElse(Order.EMPTY);
+ * </pre></blockquote>
+ *
+ * <p>A call borrows an idle resource, or creates one if there is none, and returns it to the pool
+ * once its function returns. A resource whose function fails is closed instead, since it may be
+ * left in an unknown state, and so is a resource returned while the pool is full. So up to
+ * {@code capacity} resources are kept idle, while as many as the concurrent calls may be in use.
+ *
+ * <p>The pool is lock-free: a call takes a resource from, or puts it into, one of
+ * {@code capacity} slots with a single atomic operation, starting from a slot of its thread,
+ * so the threads mostly reuse their own resources without contending with each other.
+ *
+ * @param <R> the type of the resources
+ * @see Try#using(ResourcePool, ThrowingFunction)
+ */
+public final class ResourcePool<R extends AutoCloseable> implements AutoCloseable {
+
+    private final Try<? extends R, ? extends Throwable> factory;
+    private final AtomicReferenceArray<R> slots;
+    private final int capacity;
+
+    private volatile boolean closed;
+
+    private ResourcePool(Try<? extends R, ? extends Throwable> factory, int capacity) {
+        this.factory = factory;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.capacity = capacity;
+    }
+
+    /**
+     * @param factory  creates a resource when no idle one is available
+     * @param capacity the maximum number of idle resources kept by the pool
+     * @param <R>      the type of the resources
+     * @return an empty pool
+     * @throws IllegalArgumentException if {@code capacity} isn't positive
+     */
+    public static <R extends AutoCloseable> ResourcePool<R> of(@Nonnull Try<? extends R, ? extends Throwable> factory,
+                                                               int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        return new ResourcePool<>(factory, capacity);
+    }
+
+    /**
+     * Applies a function to a resource of the pool.
+     *
+     * @param function the function applied to the resource
+     * @param <T>      the type of the function's result
+     * @return a {@link Step} with the function's result, or failed with the exception of the
+     * factory or the function, in which case an exception of closing the resource is suppressed
+     * by it
+     */
+    public <T> Step<T> use(@Nonnull ThrowingFunction<? super R, ? extends T, ? extends Throwable> function) {
+        R resource = this.borrow();
+        if (resource == null) {
+            try {
+                resource = factory.apply();
+            } catch (Throwable e) {
+                TryEvents.failed(e);
+                return Step.failed(e);
+            }
+            if (resource == null) {
+                return Step.failed(new NullPointerException("the factory of the pool returned null"));
+            }
+        }
+
+        T value;
+        try {
+            value = function.apply(resource);
+        } catch (Throwable e) {
+            TryEvents.failed(e);
+            Resources.closeSuppressed(resource, e);
+            return Step.failed(e);
+        }
+        return this.release(resource) ? Step.with(value) : Resources.close(resource, value);
+    }
+
+    /**
+     * @return the number of idle resources in the pool
+     */
+    public int getIdleCount() {
+        int idle = 0;
+        for (int i = 0; i < capacity; i++) {
+            if (slots.get(i) != null) {
+                idle++;
+            }
+        }
+        return idle;
+    }
+
+    /**
+     * Closes the idle resources and any resource returned afterward.
+     *
+     * @throws Exception the exception of the first resource that failed to close, with the
+     *                   exceptions of the others suppressed by it
+     */
+    @Override
+    public void close() throws Exception {
+        this.closed = true;
+        Exception failure = null;
+        for (int i = 0; i < capacity; i++) {
+            R resource = slots.getAndSet(i, null);
+            if (resource != null) {
+                try {
+                    resource.close();
+                } catch (Exception e) {
+                    if (failure == null) {
+                        failure = e;
+                    } else {
+                        failure.addSuppressed(e);
+                    }
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private R borrow() {
+        int start = this.startSlot();
+        for (int i = 0, slot = start; i < capacity; i++, slot = slot + 1 == capacity ? 0 : slot + 1) {
+            // reads before swapping, so a scan over empty slots doesn't write to them
+            if (slots.get(slot) != null) {
+                R resource = slots.getAndSet(slot, null);
+                if (resource != null) {
+                    return resource;
+                }
+            }
+        }
+        return null;
+    }
+
+    private boolean release(R resource) {
+        if (closed) {
+            return false;
+        }
+        int start = this.startSlot();
+        for (int i = 0, slot = start; i < capacity; i++, slot = slot + 1 == capacity ? 0 : slot + 1) {
+            if (slots.get(slot) == null && slots.compareAndSet(slot, null, resource)) {
+                // close() may have swept this slot before the resource was put into it
+                return !closed || !slots.compareAndSet(slot, resource, null);
+            }
+        }
+        return false;
+    }
+
+    private int startSlot() {
+        return (int) ((Thread.currentThread().getId() & Integer.MAX_VALUE) % capacity);
+    }
+}
@@ -0,0 +1,69 @@
+package io.github.tiagobohnenberger.fntry;
+
+/**
+ * Applies functions to {@link AutoCloseable} resources with the semantics of a
+ * {@code try}-with-resources statement.
+ *
+ * @see Try#using(Try, ThrowingFunction)
+ * @see ResourcePool
+ */
+final class Resources {
+
+    private Resources() {
+    }
+
+    static <R extends AutoCloseable, T> Step<T> using(Try<? extends R, ? extends Throwable> resource,
+                                                      ThrowingFunction<? super R, ? extends T, ? extends Throwable> function) {
+        R acquired;
+        try {
+            acquired = resource.apply();
+        } catch (Throwable e) {
+            TryEvents.failed(e);
+            return Step.failed(e);
+        }
+
+        T value;
+        try {
+            value = function.apply(acquired);
+        } catch (Throwable e) {
+            TryEvents.failed(e);
+            closeSuppressed(acquired, e);
+            return Step.failed(e);
+        }
+        return close(acquired, value);
+    }
+
+    /**
+     * Closes a resource after its function returned, failing with the exception of
+     * {@code close()}, if any.
+     */
+    static <T> Step<T> close(AutoCloseable resource, T value) {
+        if (resource != null) {
+            try {
+                resource.close();
+            } catch (Throwable e) {
+                TryEvents.failed(e);
+                return Step.failed(e);
+            }
+        }
+        return Step.with(value);
+    }
+
+    /**
+     * Closes a resource after its function failed, keeping the exception of {@code close()}, if
+     * any, as suppressed by the failure. An {@linkplain Failures expected} failure is shared
+     * between steps, so nothing is added to it.
+     */
+    static void closeSuppressed(AutoCloseable resource, Throwable failure) {
+        if (resource == null) {
+            return;
+        }
+        try {
+            resource.close();
+        } catch (Throwable e) {
+            if (e != failure && !Failures.isExpected(failure.getClass())) {
+                failure.addSuppressed(e);
+            }
+        }
+    }
+}
@@ -90,4 +90,33 @@ public interface Result<T> extends FallbackStrategy<T> {
         }
         return result;
     }
-}
\ No newline at end of file
+
+    /**
+     * Recovers from an exception of the given type, or of any of its subtypes.
+     *
+     * @param type     the exception type
+     * @param function recovers a value from the exception
+     * @param <X>      the exception type
+     * @return this result if it didn't fail with such an exception, or else a result of the
+     * recovered value, failed if the function throws
+     */
+    default <X extends Throwable> Result<T> recover(Class<X> type,
+                                                    ThrowingFunction<? super X, ? extends T, ? extends Throwable> function) {
+        Throwable e = this.getException();
+        if (!this.isFailed() || !type.isInstance(e)) {
+            return this;
+        }
+        return Try.of(() -> function.apply(type.cast(e)));
+    }
+
+    /**
+     * Recovers from the exception with the handler of its most specific type in the table.
+     *
+     * @param table the handlers of the exception types
+     * @return this result if it didn't fail or its exception has no handler, or else a result
+     * of the recovered value, failed if the handler throws
+     */
+    default Result<T> recoverWith(RecoveryTable<T> table) {
+        return table.recover(this);
+    }
+}
@@ -0,0 +1,121 @@
+package io.github.tiagobohnenberger.fntry;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * {@linkplain Stream Stream} views of {@linkplain Result results}.
+ *
+ * <p>A single {@code Result} is streamed as at most one element, with a
+ * {@linkplain Spliterator#SIZED sized} spliterator of its own. A flattened stream of results is
+ * never sized, though, since {@link Stream#flatMap(java.util.function.Function) flatMap} can't
+ * know how many elements each result adds:
+ * <blockquote><pre>
+ *  List&lt;Integer&gt; ports = lines.stream()
+ *          .map(line -&gt; Try.of(() -&gt; Integer.parseInt(line)))
+ *          .flatMap(Results::stream)
+ *          .collect(Collectors.toList());
+ * </pre></blockquote>
+ *
+ * @see FnTryCollectors
+ */
+public final class Results {
+
+    private Results() {
+    }
+
+    /**
+     * @param result the result
+     * @param <T>    the type of the value
+     * @return a stream of the value of the result, or an empty stream if it failed or its value
+     * is {@code null}
+     * @see Result#asOptional()
+     */
+    public static <T> Stream<T> stream(Result<? extends T> result) {
+        T value = result.isFailed() ? null : result.get();
+        return value == null
+                ? Stream.empty()
+                : StreamSupport.stream(Collections.<T>singleton(value).spliterator(), false);
+    }
+
+    /**
+     * @param results a stream of results
+     * @param <T>     the type of the values
+     * @return a stream of the values of the successful results, that might be {@code null}
+     */
+    public static <T> Stream<T> successes(Stream<? extends Result<? extends T>> results) {
+        return results.filter(result -> !result.isFailed()).map(Result::get);
+    }
+
+    /**
+     * @param results a stream of results
+     * @return a stream of the exceptions of the failed results
+     */
+    public static Stream<Throwable> failures(Stream<? extends Result<?>> results) {
+        return results.filter(Result::isFailed).map(Result::getException);
+    }
+
+    /**
+     * Applies a function to the elements of a stream, in encounter order, stopping at the first
+     * failure. No element after it is consumed.
+     *
+     * @param elements the elements
+     * @param function the function to apply to each element
+     * @param <T>      the type of the elements
+     * @param <U>      the type of the values
+     * @return a {@link Step} of the values of every element, or failed with the first exception
+     */
+    public static <T, U> Step<List<U>> traverse(Stream<? extends T> elements,
+                                                ThrowingFunction<? super T, ? extends U, ? extends Throwable> function) {
+        Spliterator<? extends T> spliterator = elements.sequential().spliterator();
+        Traversal<T, U> traversal = new Traversal<>(function, spliterator.hasCharacteristics(Spliterator.SIZED)
+                ? (int) Math.min(spliterator.getExactSizeIfKnown(), Integer.MAX_VALUE - 8)
+                : 10);
+        while (traversal.failure == null && spliterator.tryAdvance(traversal)) {
+            // the traversal consumes each element
+        }
+        return traversal.failure == null ? Step.with(traversal.values) : Step.failed(traversal.failure);
+    }
+
+    /**
+     * Turns a stream of results into a single one, stopping at the first failed result.
+     *
+     * @param results a stream of results
+     * @param <T>     the type of the values
+     * @return a {@link Step} of the values of every result, or failed with the first exception
+     */
+    public static <T> Step<List<T>> sequence(Stream<? extends Result<? extends T>> results) {
+        return traverse(results, result -> {
+            if (result.isFailed()) {
+                throw result.<Throwable>getException();
+            }
+            return result.get();
+        });
+    }
+
+    private static final class Traversal<T, U> implements Consumer<T> {
+        private final ThrowingFunction<? super T, ? extends U, ? extends Throwable> function;
+        private final List<U> values;
+        private Throwable failure;
+
+        private Traversal(ThrowingFunction<? super T, ? extends U, ? extends Throwable> function, int capacity) {
+            this.function = function;
+            this.values = new ArrayList<>(capacity);
+        }
+
+        @Override
+        public void accept(T element) {
+            try {
+                values.add(function.apply(element));
+            } catch (Throwable e) {
+                TryEvents.failed(e);
+                failure = e;
+            }
+        }
+    }
+}
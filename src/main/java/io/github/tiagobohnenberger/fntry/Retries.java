@@ -0,0 +1,66 @@
+package io.github.tiagobohnenberger.fntry;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+final class Retries {
+
+    private Retries() {
+    }
+
+    static <T> Step<T> retry(RetryPolicy policy, Try<T, ? extends Throwable> aTry) {
+        Step<T> step = Try.of(aTry);
+        long delay = 0;
+        for (int attempt = 1; step.isFailed(); attempt++) {
+            if (!policy.shouldRetry(step, attempt)) {
+                return step;
+            }
+
+            delay = policy.nextDelayNanos(attempt, delay);
+            try {
+                TimeUnit.NANOSECONDS.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return step;
+            }
+            step = Try.of(aTry);
+        }
+        policy.onSuccess();
+        return step;
+    }
+
+    static <T> AsyncStep<T> retryAsync(RetryPolicy policy, Try<T, ? extends Throwable> aTry,
+                                       ScheduledExecutorService scheduler) {
+        CompletableFuture<Step<T>> future = new CompletableFuture<>();
+        try {
+            scheduler.execute(() -> attempt(policy, aTry, scheduler, future, 1, 0));
+        } catch (Throwable e) {
+            future.complete(Step.failed(e));
+        }
+        return new AsyncStepImpl<>(future, scheduler);
+    }
+
+    private static <T> void attempt(RetryPolicy policy, Try<T, ? extends Throwable> aTry,
+                                    ScheduledExecutorService scheduler, CompletableFuture<Step<T>> future,
+                                    int attempt, long previousDelay) {
+        Step<T> step = Try.of(aTry);
+        if (!step.isFailed()) {
+            policy.onSuccess();
+            future.complete(step);
+            return;
+        }
+        if (!policy.shouldRetry(step, attempt)) {
+            future.complete(step);
+            return;
+        }
+
+        long delay = policy.nextDelayNanos(attempt, previousDelay);
+        try {
+            scheduler.schedule(() -> attempt(policy, aTry, scheduler, future, attempt + 1, delay),
+                    delay, TimeUnit.NANOSECONDS);
+        } catch (Throwable e) {
+            future.complete(step);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package io.github.tiagobohnenberger.fntry;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A token bucket that limits the retries of every {@linkplain RetryPolicy policy} sharing it.
+ *
+ * <p>The bucket starts full. Each failed attempt takes one token and each successful call
+ * gives back {@code tokenRatio} tokens, up to {@code maxTokens}. Retries are only allowed
+ * while the bucket holds more than half of {@code maxTokens}, so when a dependency fails
+ * for most callers, they stop retrying instead of multiplying its load.
+ *
+ * <p>The bucket is lock-free and meant to be shared between threads.
+ */
+public final class RetryBudget {
+
+    private static final long SCALE = 1000;
+
+    private final AtomicLong milliTokens;
+    private final long maxMilliTokens;
+    private final long thresholdMilliTokens;
+    private final long ratioMilliTokens;
+
+    private RetryBudget(int maxTokens, double tokenRatio) {
+        this.maxMilliTokens = maxTokens * SCALE;
+        this.thresholdMilliTokens = maxMilliTokens / 2;
+        this.ratioMilliTokens = (long) (tokenRatio * SCALE);
+        this.milliTokens = new AtomicLong(maxMilliTokens);
+    }
+
+    /**
+     * @param maxTokens  the capacity of the bucket
+     * @param tokenRatio the tokens given back by each successful call, such as {@code 0.1}
+     *                   to allow one retry for every ten successes once the budget is spent
+     * @return a full {@code RetryBudget}
+     * @throws IllegalArgumentException if {@code maxTokens} or {@code tokenRatio} isn't positive
+     */
+    public static RetryBudget of(int maxTokens, double tokenRatio) {
+        if (maxTokens <= 0 || !(tokenRatio > 0)) {
+            throw new IllegalArgumentException("maxTokens and tokenRatio must be positive");
+        }
+        return new RetryBudget(maxTokens, tokenRatio);
+    }
+
+    /**
+     * @return the tokens currently in the bucket
+     */
+    public double getTokens() {
+        return milliTokens.get() / (double) SCALE;
+    }
+
+    /**
+     * Takes a token for a failed attempt.
+     *
+     * @return if a retry is allowed
+     */
+    boolean onFailure() {
+        long current;
+        long next;
+        do {
+            current = milliTokens.get();
+            next = Math.max(0, current - SCALE);
+        } while (current != next && !milliTokens.compareAndSet(current, next));
+        return next > thresholdMilliTokens;
+    }
+
+    /**
+     * Gives back tokens for a successful call.
+     */
+    void onSuccess() {
+        long current;
+        long next;
+        do {
+            current = milliTokens.get();
+            next = Math.min(maxMilliTokens, current + ratioMilliTokens);
+        } while (current != next && !milliTokens.compareAndSet(current, next));
+    }
+}
@@ -0,0 +1,262 @@
+package io.github.tiagobohnenberger.fntry;
+
+import java.time.Duration;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+/**
+ * Describes how a {@linkplain Try try} is retried while it fails.
+ * <blockquote><pre>
+ *  RetryPolicy policy = RetryPolicy.builder()
+ *          .maxAttempts(4)
+ *          .backoff(Duration.ofMillis(50), Duration.ofSeconds(2))
+ *          .jitter(RetryPolicy.Jitter.DECORRELATED)
+ *          .retryOn(IOException.class)
+ *          .budget(sharedBudget)
+ *          .build();
+ *
+ *  String body = Try.retrying(policy, () -&gt; client.fetch(id)).orElse("");
+ * </pre></blockquote>
+ *
+ * <p>A failed attempt is retried when its {@linkplain Result#getException() exception} matches
+ * the policy, the maximum number of attempts wasn't reached and the {@linkplain RetryBudget budget},
+ * if any, allows it. The delay before each retry grows exponentially from the base delay up to
+ * the maximum one, randomized by the {@linkplain Jitter jitter}.
+ *
+ * <p>A policy is immutable and can be shared.
+ *
+ * @see Try#retrying(RetryPolicy, Try)
+ * @see Try#retryingAsync(RetryPolicy, Try, ScheduledExecutorService)
+ */
+public final class RetryPolicy {
+
+    private final int maxAttempts;
+    private final long baseDelayNanos;
+    private final long maxDelayNanos;
+    private final double multiplier;
+    private final Jitter jitter;
+    private final Predicate<Throwable> retryable;
+    @Nullable
+    private final RetryBudget budget;
+
+    private RetryPolicy(Builder builder) {
+        this.maxAttempts = builder.maxAttempts;
+        this.baseDelayNanos = builder.baseDelay.toNanos();
+        this.maxDelayNanos = builder.maxDelay.toNanos();
+        this.multiplier = builder.multiplier;
+        this.jitter = builder.jitter;
+        this.retryable = builder.retryable;
+        this.budget = builder.budget;
+    }
+
+    /**
+     * @return a builder with 3 attempts, an exponential backoff from 100 ms up to 10 s with
+     * {@linkplain Jitter#FULL full jitter}, retrying on any {@code Exception} and without budget
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return the maximum number of attempts, including the first one
+     */
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * @return the retry budget shared by this policy, if any
+     */
+    @Nullable
+    public RetryBudget getBudget() {
+        return budget;
+    }
+
+    /**
+     * Decides if a failed attempt is retried. Every retryable failure draws from the
+     * {@linkplain RetryBudget budget}, if any, even the one of the last attempt.
+     *
+     * @param failed  the failed attempt
+     * @param attempt the number of the failed attempt, starting at 1
+     * @return if another attempt should run
+     */
+    boolean shouldRetry(Result<?> failed, int attempt) {
+        if (!retryable.test(failed.getException())) {
+            return false;
+        }
+        boolean permitted = budget == null || budget.onFailure();
+        return permitted && attempt < maxAttempts;
+    }
+
+    void onSuccess() {
+        if (budget != null) {
+            budget.onSuccess();
+        }
+    }
+
+    /**
+     * @param attempt       the number of the failed attempt, starting at 1
+     * @param previousDelay the delay before the failed attempt, in nanoseconds ({@code 0} for the first one)
+     * @return the delay before the next attempt, in nanoseconds
+     */
+    long nextDelayNanos(int attempt, long previousDelay) {
+        if (baseDelayNanos == 0) {
+            return 0;
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        switch (jitter) {
+            case FULL:
+                return random.nextLong(exponentialDelay(attempt) + 1);
+            case DECORRELATED:
+                long upper = Math.max(baseDelayNanos, saturatedMultiply(Math.max(previousDelay, baseDelayNanos), 3));
+                return Math.min(maxDelayNanos, random.nextLong(baseDelayNanos, upper + 1));
+            default:
+                return exponentialDelay(attempt);
+        }
+    }
+
+    private long exponentialDelay(int attempt) {
+        double delay = baseDelayNanos * Math.pow(multiplier, attempt - 1);
+        return delay >= maxDelayNanos ? maxDelayNanos : (long) delay;
+    }
+
+    private static long saturatedMultiply(long value, int factor) {
+        return value > Long.MAX_VALUE / factor ? Long.MAX_VALUE : value * factor;
+    }
+
+    /**
+     * How the exponential delay between attempts is randomized, so that the retries of many
+     * callers that failed together don't hit the operation together again.
+     */
+    public enum Jitter {
+        /**
+         * The delay is exactly {@code min(maxDelay, baseDelay * multiplier^(attempt - 1))}.
+         */
+        NONE,
+        /**
+         * The delay is a random value between zero and the exponential delay.
+         */
+        FULL,
+        /**
+         * The delay is a random value between the base delay and three times the previous
+         * delay, capped at the maximum one. It doesn't use the multiplier.
+         */
+        DECORRELATED
+    }
+
+    /**
+     * Builder of a {@link RetryPolicy}.
+     */
+    public static final class Builder {
+        private int maxAttempts = 3;
+        private Duration baseDelay = Duration.ofMillis(100);
+        private Duration maxDelay = Duration.ofSeconds(10);
+        private double multiplier = 2;
+        private Jitter jitter = Jitter.FULL;
+        private Predicate<Throwable> retryable = Exception.class::isInstance;
+        @Nullable
+        private RetryBudget budget;
+
+        private Builder() {
+        }
+
+        /**
+         * @param maxAttempts the maximum number of attempts, including the first one
+         * @return this builder
+         * @throws IllegalArgumentException if {@code maxAttempts} is less than 1
+         */
+        public Builder maxAttempts(int maxAttempts) {
+            if (maxAttempts < 1) {
+                throw new IllegalArgumentException("maxAttempts must be at least 1: " + maxAttempts);
+            }
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        /**
+         * @param baseDelay the delay before the first retry
+         * @param maxDelay  the upper bound of any delay
+         * @return this builder
+         * @throws IllegalArgumentException if a delay is negative or {@code maxDelay} is less than {@code baseDelay}
+         */
+        public Builder backoff(@Nonnull Duration baseDelay, @Nonnull Duration maxDelay) {
+            if (baseDelay.isNegative() || maxDelay.compareTo(baseDelay) < 0) {
+                throw new IllegalArgumentException("invalid backoff: " + baseDelay + " to " + maxDelay);
+            }
+            this.baseDelay = baseDelay;
+            this.maxDelay = maxDelay;
+            return this;
+        }
+
+        /**
+         * @param multiplier the factor applied to the delay on each attempt
+         * @return this builder
+         * @throws IllegalArgumentException if {@code multiplier} is less than 1
+         */
+        public Builder multiplier(double multiplier) {
+            if (!(multiplier >= 1)) {
+                throw new IllegalArgumentException("multiplier must be at least 1: " + multiplier);
+            }
+            this.multiplier = multiplier;
+            return this;
+        }
+
+        /**
+         * @param jitter how the delays are randomized
+         * @return this builder
+         */
+        public Builder jitter(@Nonnull Jitter jitter) {
+            this.jitter = jitter;
+            return this;
+        }
+
+        /**
+         * Retries only the failures whose exception is an instance of any of the given types.
+         *
+         * @param types the retryable exception types
+         * @return this builder
+         */
+        @SafeVarargs
+        public final Builder retryOn(@Nonnull Class<? extends Throwable>... types) {
+            return this.retryIf(e -> {
+                for (Class<? extends Throwable> type : types) {
+                    if (type.isInstance(e)) {
+                        return true;
+                    }
+                }
+                return false;
+            });
+        }
+
+        /**
+         * Retries only the failures whose exception matches the given predicate.
+         *
+         * @param retryable the predicate on the exception of a failed attempt
+         * @return this builder
+         */
+        public Builder retryIf(@Nonnull Predicate<Throwable> retryable) {
+            this.retryable = retryable;
+            return this;
+        }
+
+        /**
+         * @param budget the retry budget, usually shared by every policy calling the same dependency
+         * @return this builder
+         */
+        public Builder budget(@Nullable RetryBudget budget) {
+            this.budget = budget;
+            return this;
+        }
+
+        /**
+         * @return the {@link RetryPolicy}
+         */
+        public RetryPolicy build() {
+            return new RetryPolicy(this);
+        }
+    }
+}
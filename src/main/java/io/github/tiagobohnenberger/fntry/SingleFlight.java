@@ -0,0 +1,99 @@
+package io.github.tiagobohnenberger.fntry;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Coalesces concurrent {@linkplain Try tries} of the same key into a single one.
+ *
+ * <p>While a try of a key is in flight, any other caller of that key doesn't run its own, but
+ * receives the same {@linkplain Step step}, failed or not, once the one in flight completes:
+ * <blockquote><pre>
+ *  Config config = flights.run(tenant, () -&gt; loader.load(tenant)).orElse(Config.DEFAULT);
+ * </pre></blockquote>
+ *
+ * <p>A key is only kept while its try is in flight, so the group doesn't grow with the number of
+ * keys ever used, and the keys are only locked one by one. A key must identify both the
+ * operation and the type of its result across every caller of the same group, so a group
+ * belongs to the code that owns those keys, rather than being shared across unrelated ones.
+ *
+ * <p>A try that runs the same key of its own group again, on the thread running it, would wait
+ * for itself forever; that call fails with an {@link IllegalStateException} instead.
+ */
+public final class SingleFlight {
+
+    private final ConcurrentMap<Object, Flight> flights = new ConcurrentHashMap<>();
+
+    /**
+     * Runs a try, unless one of the same key is in flight, waiting for it instead.
+     *
+     * @param key  the key of the try
+     * @param aTry the try operation
+     * @param <T>  the type of the provided value
+     * @return a {@link Step} of the try in flight for the key
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Step<T> run(Object key, Try<T, ? extends Throwable> aTry) {
+        Flight flight = new Flight();
+        Flight inFlight = flights.putIfAbsent(key, flight);
+        if (inFlight != null) {
+            if (inFlight.pilot == Thread.currentThread()) {
+                return Step.failed(new IllegalStateException("recursive single flight for the key " + key));
+            }
+            return (Step<T>) inFlight.join();
+        }
+
+        flight.pilot = Thread.currentThread();
+        Step<T> step = Try.of(aTry);
+        this.land(key, flight, step);
+        return step;
+    }
+
+    /**
+     * Same as {@link #run(Object, Try)}, but runs the try on the given
+     * {@linkplain Executor executor} instead of blocking the calling thread.
+     *
+     * @param key      the key of the try
+     * @param aTry     the try operation
+     * @param executor the executor that runs the try and the following operations
+     * @param <T>      the type of the provided value
+     * @return an {@linkplain AsyncStep} that completes with the try in flight for the key
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public <T> AsyncStep<T> runAsync(Object key, Try<T, ? extends Throwable> aTry, Executor executor) {
+        Flight flight = new Flight();
+        CompletableFuture<Step<?>> inFlight = flights.putIfAbsent(key, flight);
+        if (inFlight == null) {
+            try {
+                executor.execute(() -> {
+                    flight.pilot = Thread.currentThread();
+                    this.land(key, flight, Try.of(aTry));
+                });
+            } catch (Throwable e) {
+                this.land(key, flight, Step.failed(e));
+            }
+            inFlight = flight;
+        }
+        return new AsyncStepImpl<>((CompletableFuture) inFlight, executor);
+    }
+
+    /**
+     * @return the number of keys whose try is in flight
+     */
+    public int size() {
+        return flights.size();
+    }
+
+    private void land(Object key, Flight flight, Step<?> step) {
+        flights.remove(key, flight);
+        flight.complete(step);
+    }
+
+    private static final class Flight extends CompletableFuture<Step<?>> {
+
+        // the thread running the try; only read by the callers that find the flight in the map
+        volatile Thread pilot;
+    }
+}
@@ -0,0 +1,51 @@
+package io.github.tiagobohnenberger.fntry;
+
+import jakarta.annotation.Nullable;
+
+/**
+ * A {@code RuntimeException} that does not fill in its stack trace.
+ *
+ * <p>Filling the stack trace is usually the most expensive part of creating an exception, and
+ * it carries no useful information for <i>expected</i> failures, such as a parse attempt or
+ * a cache miss, that are handled by a {@linkplain FallbackStrategy fallback} right away.
+ * These failures can extend this class, so a failed {@linkplain Step step} costs little more
+ * than a successful one:
+ * <blockquote><pre>
+ *  class NotFound extends StacklessException {
+ *      NotFound(String key) {
+ *          super(key);
+ *      }
+ *  }
+ * </pre></blockquote>
+ *
+ * <p>Suppressed exceptions are still recorded.
+ *
+ * @see Try#liftedStackless(Try)
+ * @see Failures
+ */
+public class StacklessException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * @param message the detail message
+     */
+    public StacklessException(@Nullable String message) {
+        this(message, null);
+    }
+
+    /**
+     * @param cause the cause of this exception, whose {@code toString()} becomes the message
+     */
+    public StacklessException(@Nullable Throwable cause) {
+        this(cause == null ? null : cause.toString(), cause);
+    }
+
+    /**
+     * @param message the detail message
+     * @param cause   the cause of this exception
+     */
+    public StacklessException(@Nullable String message, @Nullable Throwable cause) {
+        super(message, cause, true, false);
+    }
+}
@@ -23,6 +23,12 @@ import java.util.function.Predicate;
  * {@link #map(ThrowingFunction) map}, the return is {@code Result<T>}, and if the
  * operation fails, the value of this {@code Result<T>} will be null.
  *
+ * <p id="reusable-steps">A <strong>reusable</strong> step, created by {@link #reusable(Object)} or
+ * {@link Try#ofReusable(Try)}, updates and returns the same instance on every operation instead
+ * of returning a new {@code Step}, so a whole chain allocates a single carrier. Any reference kept
+ * to an earlier step of that chain sees the values of the later ones, and such a step must be
+ * confined to the thread that created it.
+ *
  * @param <T> type of the step
  */
 public interface Step<T> extends Result<T> {
@@ -39,6 +45,18 @@ public interface Step<T> extends Result<T> {
         return StepImpl.failed(e);
     }
 
+    /**
+     * Creates a <a href="#reusable-steps">reusable step</a>, whose operations reuse this same
+     * instance as the carrier of the chain.
+     *
+     * @param initValue the initial value for the operation chain
+     * @param <T>       the type of the provided value
+     * @return a reusable {@code Step} containing the initial value
+     */
+    static <T> Step<T> reusable(T initValue) {
+        return StepImpl.reusable(initValue);
+    }
+
     /**
      * Consumes the type of the step.
      *
@@ -82,4 +100,16 @@ public interface Step<T> extends Result<T> {
      * @return a {@code Step<T>} containing the matched value
      */
     Step<T> filter(Predicate<T> predicate);
-}
\ No newline at end of file
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    <X extends Throwable> Step<T> recover(Class<X> type, ThrowingFunction<? super X, ? extends T, ? extends Throwable> function);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    Step<T> recoverWith(RecoveryTable<T> table);
+}
@@ -19,6 +19,7 @@ class StepImpl<T> implements Step<T> {
     @Nullable
     private Throwable throwable;
     private boolean failed;
+    private boolean reusable;
 
     private StepImpl(@Nullable T result, @Nullable Throwable throwable) {
         this.result = result;
@@ -48,25 +49,46 @@ class StepImpl<T> implements Step<T> {
         return (ANY_RESULT) step;
     }
 
-    static <T> Step<T> failed(Throwable e) {
-        return failed(new StepImpl<>(e));
+    static <T> StepImpl<T> failed(Throwable e) {
+        StepImpl<T> sentinel = Failures.sentinel(e);
+        return sentinel != null ? sentinel : failed(new StepImpl<>(e));
+    }
+
+    static <T> StepImpl<T> of(Try<T, ? extends Throwable> aTry) {
+        Object event = TryEvents.begin();
+        T value;
+        try {
+            value = aTry.apply();
+        } catch (Throwable e) {
+            TryEvents.failed(e);
+            return TryEvents.end(event, failed(e));
+        }
+        return TryEvents.end(event, new StepImpl<>(value));
+    }
+
+    static <T> StepImpl<T> reusable(@Nullable T initValue) {
+        return new StepImpl<>(initValue, null, false, true);
+    }
+
+    static <T> StepImpl<T> reusableFailed(Throwable e) {
+        return new StepImpl<>(null, e, true, true);
     }
 
     @Override
-    public Step<T> apply(UnaryThrowingOperator<T, ?> function) {
+    public StepImpl<T> apply(UnaryThrowingOperator<T, ?> function) {
         if (failed) {
             return this;
         }
 
         try {
-            return this.withResult(function.apply(result));
+            return this.next(function.apply(result));
         } catch (Throwable e) {
-            return failed(withThrowable(e));
+            return this.failedWith(e);
         }
     }
 
     @Override
-    public <E extends Throwable> Step<T> consume(ThrowingConsumer<T, E> consumer) {
+    public <E extends Throwable> StepImpl<T> consume(ThrowingConsumer<T, E> consumer) {
         if (this.failed) {
             return this;
         }
@@ -74,21 +96,21 @@ class StepImpl<T> implements Step<T> {
         try {
             consumer.accept(result);
         } catch (Throwable e) {
-            return failed(withThrowable(e));
+            return this.failedWith(e);
         }
         return this;
     }
 
     @Override
-    public <U, E extends Throwable> Result<U> map(ThrowingFunction<T, ? extends U, E> function) {
+    public <U, E extends Throwable> StepImpl<U> map(ThrowingFunction<T, ? extends U, E> function) {
         if (failed) {
-            return failed(withResult(null));
+            return this.mapped(null);
         }
 
         try {
-            return new StepImpl<>(function.apply(result));
+            return this.mapped(function.apply(result));
         } catch (Throwable e) {
-            return failed(withResult(null).withThrowable(e));
+            return this.<U>mapped(null).failedWith(e);
         }
     }
 
@@ -105,17 +127,36 @@ class StepImpl<T> implements Step<T> {
     }
 
     @Override
-    public Step<T> filter(Predicate<T> predicate) {
-        final StepImpl<T> stepWithNullResult = this.withResult(null);
-
+    public StepImpl<T> filter(Predicate<T> predicate) {
         if (this.failed || result == null) {
-            return stepWithNullResult;
+            return this.next(null);
         }
 
-        return Try.of(() -> predicate.test(result)
-                        ? this
-                        : stepWithNullResult)
-                .orElse(stepWithNullResult);
+        boolean matches;
+        try {
+            matches = predicate.test(result);
+        } catch (Throwable e) {
+            matches = false;
+        }
+        return matches ? this : this.next(null);
+    }
+
+    @Override
+    public <X extends Throwable> StepImpl<T> recover(Class<X> type,
+                                                    ThrowingFunction<? super X, ? extends T, ? extends Throwable> function) {
+        if (!failed || !type.isInstance(throwable)) {
+            return this;
+        }
+        return this.recovered(function, type.cast(throwable));
+    }
+
+    @Override
+    public StepImpl<T> recoverWith(RecoveryTable<T> table) {
+        if (!failed) {
+            return this;
+        }
+        ThrowingFunction<Throwable, ? extends T, ? extends Throwable> handler = table.handlerOf(throwable);
+        return handler == null ? this : this.recovered(handler, throwable);
     }
 
     @Override
@@ -135,4 +176,70 @@ class StepImpl<T> implements Step<T> {
     public T get() {
         return result;
     }
+
+    boolean isReusable() {
+        return reusable;
+    }
+
+    StepImpl<T> reset(@Nullable T newResult, @Nullable Throwable e) {
+        this.result = newResult;
+        this.throwable = e;
+        this.failed = e != null;
+        return this;
+    }
+
+    // only for a reusable step that never escaped the chain that created it
+    StepImpl<T> detached() {
+        this.reusable = false;
+        return this;
+    }
+
+    private StepImpl<T> next(@Nullable T newResult) {
+        if (reusable) {
+            this.result = newResult;
+            return this;
+        }
+        return this.withResult(newResult);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <U> StepImpl<U> mapped(@Nullable U newResult) {
+        if (reusable) {
+            StepImpl<U> self = (StepImpl<U>) this;
+            self.result = newResult;
+            return self;
+        }
+        if (newResult == null && result == null) {
+            return (StepImpl<U>) this;
+        }
+        return new StepImpl<>(newResult, throwable, failed, false);
+    }
+
+    private <X extends Throwable> StepImpl<T> recovered(ThrowingFunction<? super X, ? extends T, ? extends Throwable> function,
+                                                       X e) {
+        T value;
+        try {
+            value = function.apply(e);
+        } catch (Throwable other) {
+            return this.failedWith(other);
+        }
+        // a failed step may be a shared sentinel, so only a reusable one is reset in place
+        return reusable ? this.reset(value, null) : new StepImpl<>(value);
+    }
+
+    private StepImpl<T> failedWith(Throwable e) {
+        TryEvents.failed(e);
+        if (reusable) {
+            this.throwable = e;
+            this.failed = true;
+            return this;
+        }
+        if (result == null) {
+            StepImpl<T> sentinel = Failures.sentinel(e);
+            if (sentinel != null) {
+                return sentinel;
+            }
+        }
+        return failed(withThrowable(e));
+    }
 }
\ No newline at end of file
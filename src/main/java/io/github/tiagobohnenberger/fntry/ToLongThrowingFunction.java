@@ -0,0 +1,21 @@
+package io.github.tiagobohnenberger.fntry;
+
+/**
+ * A {@link ThrowingFunction} that returns a {@code long}, without boxing it.
+ *
+ * @param <T> type of the argument
+ * @param <E> exception type
+ * @see FnTryCollectors#summingLong(ToLongThrowingFunction)
+ */
+@FunctionalInterface
+public interface ToLongThrowingFunction<T, E extends Throwable> {
+
+    /**
+     * Applies this function to the given argument.
+     *
+     * @param t the argument
+     * @return the function result
+     * @throws E the type or subtype of {@code Throwable} that can be thrown
+     */
+    long apply(T t) throws E;
+}
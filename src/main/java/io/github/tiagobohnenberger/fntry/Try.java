@@ -1,6 +1,11 @@
 package io.github.tiagobohnenberger.fntry;
 
+import java.time.Duration;
+import java.util.Collection;
 import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
 
 /**
  * Represents an attempt at some operation.
@@ -67,6 +72,23 @@ public interface Try<T, E extends Throwable> {
         }
     }
 
+    /**
+     * Same as {@link #lifted(Try)}, but wraps the underlying exception into a
+     * {@link StacklessException}, which doesn't pay for filling a second stack trace.
+     *
+     * @param aTry a try function
+     * @param <T>  the type of the {@code Try}
+     * @return the lifted value
+     * @throws StacklessException with the cause when any throwable occur
+     */
+    static <T> T liftedStackless(Try<? extends T, ?> aTry) {
+        try {
+            return aTry.apply();
+        } catch (Throwable e) {
+            throw new StacklessException(e);
+        }
+    }
+
     /**
      * Receives a {@link ThrowingSimpleFunction} operation and try to apply it.
      *
@@ -76,11 +98,13 @@ public interface Try<T, E extends Throwable> {
      * contained value
      */
     static <E extends Throwable> Result<Void> just(ThrowingSimpleFunction<E> supplier) {
+        Object event = TryEvents.begin();
         try {
             supplier.apply();
-            return Step.empty();
+            return TryEvents.end(event, Step.empty());
         } catch (Throwable e) {
-            return Step.failed(e);
+            TryEvents.failed(e);
+            return TryEvents.end(event, Step.failed(e));
         }
     }
 
@@ -111,13 +135,413 @@ public interface Try<T, E extends Throwable> {
      * @return a {@linkplain Step} containing the initial value (that might be {@code null})
      */
     static <T> Step<T> of(Try<T, ? extends Throwable> aTry) {
+        return StepImpl.of(aTry);
+    }
+
+    /**
+     * Names a site of tries, whose outcomes are recorded by the
+     * {@linkplain Metrics#install(MetricsRecorder) installed} {@link MetricsRecorder}, if any.
+     *
+     * @param name the name of the tries
+     * @return the {@link NamedTry}
+     */
+    static NamedTry named(String name) {
+        return new NamedTry(name);
+    }
+
+    /**
+     * Initiates an operation chain with {@linkplain IntTry an int try}, just like {@link #of(Try)},
+     * but without boxing the value at any step.
+     *
+     * @param aTry the try operation
+     * @return an {@linkplain IntStep} containing the initial value
+     */
+    static IntStep ofInt(IntTry<? extends Throwable> aTry) {
+        int value;
+        try {
+            value = aTry.apply();
+        } catch (Throwable e) {
+            TryEvents.failed(e);
+            return IntStep.failed(e);
+        }
+        return IntStep.with(value);
+    }
+
+    /**
+     * Initiates an operation chain with {@linkplain LongTry a long try}, just like {@link #of(Try)},
+     * but without boxing the value at any step.
+     *
+     * @param aTry the try operation
+     * @return a {@linkplain LongStep} containing the initial value
+     */
+    static LongStep ofLong(LongTry<? extends Throwable> aTry) {
+        long value;
+        try {
+            value = aTry.apply();
+        } catch (Throwable e) {
+            TryEvents.failed(e);
+            return LongStep.failed(e);
+        }
+        return LongStep.with(value);
+    }
+
+    /**
+     * Initiates an operation chain with {@linkplain DoubleTry a double try}, just like {@link #of(Try)},
+     * but without boxing the value at any step.
+     *
+     * @param aTry the try operation
+     * @return a {@linkplain DoubleStep} containing the initial value
+     */
+    static DoubleStep ofDouble(DoubleTry<? extends Throwable> aTry) {
+        double value;
+        try {
+            value = aTry.apply();
+        } catch (Throwable e) {
+            TryEvents.failed(e);
+            return DoubleStep.failed(e);
+        }
+        return DoubleStep.with(value);
+    }
+
+    /**
+     * Initiates an operation chain with {@linkplain Try a try} bound to a deadline.
+     *
+     * <p>The try runs on a thread of {@link VirtualThreads#executor()}, while the calling
+     * thread waits for it up to the {@code timeout}. If the try doesn't complete in time,
+     * it's interrupted and the returned step fails with a {@link DeadlineExceededException}.
+     * The following operations share the same deadline.
+     *
+     * <p>Before Java 21, that executor is a pool of at most 256 platform threads, which rejects
+     * a try once they're all busy: the returned step then fails right away with a
+     * {@link java.util.concurrent.RejectedExecutionException}, without waiting for the deadline.
+     * A try that times out keeps its thread until it returns, so tries that ignore interruption
+     * can exhaust the pool; such tries should be given {@linkplain #of(Try, Duration, Executor)
+     * an executor} of their own.
+     *
+     * @param aTry    the try operation
+     * @param timeout how long the whole chain may take
+     * @param <T>     the type of the provided value
+     * @return a {@linkplain DeadlineStep} containing the initial value (that might be {@code null})
+     */
+    static <T> DeadlineStep<T> of(Try<T, ? extends Throwable> aTry, Duration timeout) {
+        return of(aTry, timeout, VirtualThreads.executor());
+    }
+
+    /**
+     * Same as {@link #of(Try, Duration)}, running the try on the given {@linkplain Executor executor}.
+     *
+     * @param aTry     the try operation
+     * @param timeout  how long the whole chain may take
+     * @param executor the executor that runs the try
+     * @param <T>      the type of the provided value
+     * @return a {@linkplain DeadlineStep} containing the initial value (that might be {@code null})
+     */
+    static <T> DeadlineStep<T> of(Try<T, ? extends Throwable> aTry, Duration timeout, Executor executor) {
+        return DeadlineStepImpl.of(aTry, timeout, executor);
+    }
+
+    /**
+     * Initiates an operation chain with {@linkplain Try a try}, just like {@link #of(Try)}, but
+     * on a <a href="{@docRoot}/fntry/Step.html#reusable-steps">reusable step</a>: every
+     * following operation updates the returned instance instead of allocating a new one.
+     *
+     * @param aTry the try operation
+     * @param <T>  the type of the provided value
+     * @return a reusable {@linkplain Step} containing the initial value (that might be {@code null})
+     */
+    static <T> Step<T> ofReusable(Try<T, ? extends Throwable> aTry) {
         T value;
         try {
             value = aTry.apply();
         } catch (Throwable e) {
-            return Step.failed(e);
+            TryEvents.failed(e);
+            return StepImpl.reusableFailed(e);
         }
-        return with(value);
+        return StepImpl.reusable(value);
+    }
+
+    /**
+     * Initiates a <a href="{@docRoot}/fntry/LazyStep.html">lazy</a> operation chain with
+     * {@linkplain Try a try}, which only runs, along with the following operations, once the
+     * result is needed.
+     *
+     * @param aTry the try operation
+     * @param <T>  the type of the provided value
+     * @return a {@linkplain LazyStep} that runs the try on its first terminal method
+     */
+    static <T> LazyStep<T> lazy(Try<T, ? extends Throwable> aTry) {
+        return LazyStepImpl.of(aTry);
+    }
+
+    /**
+     * Initiates an asynchronous operation chain, running {@linkplain Try the try}
+     * and every following operation on the given {@linkplain Executor executor}.
+     *
+     * <p>If the executor rejects the try, the chain starts as a failed step.
+     *
+     * @param aTry     the try operation
+     * @param executor the executor that runs the operations
+     * @param <T>      the type of the provided value
+     * @return an {@linkplain AsyncStep} that completes with the try result
+     */
+    static <T> AsyncStep<T> ofAsync(Try<T, ? extends Throwable> aTry, Executor executor) {
+        return AsyncStepImpl.of(aTry, executor);
+    }
+
+    /**
+     * Runs a {@link ThrowingSimpleFunction} operation on the given {@linkplain Executor executor}.
+     *
+     * @param supplier the simple operation
+     * @param executor the executor that runs the operation
+     * @param <E>      type that can be thrown
+     * @return an {@linkplain AsyncStep} of {@link Void}, that completes once the operation ran
+     * @see #just(ThrowingSimpleFunction)
+     */
+    static <E extends Throwable> AsyncStep<Void> justAsync(ThrowingSimpleFunction<E> supplier, Executor executor) {
+        return ofAsync(() -> {
+            supplier.apply();
+            return null;
+        }, executor);
+    }
+
+    /**
+     * Same as {@link #ofAsync(Try, Executor)}, with the {@linkplain VirtualThreads#executor() executor}
+     * that starts a virtual thread for each operation (on Java 21 or later).
+     *
+     * @param aTry the try operation
+     * @param <T>  the type of the provided value
+     * @return an {@linkplain AsyncStep} that completes with the try result
+     */
+    static <T> AsyncStep<T> ofVirtual(Try<T, ? extends Throwable> aTry) {
+        return ofAsync(aTry, VirtualThreads.executor());
+    }
+
+    /**
+     * Same as {@link #justAsync(ThrowingSimpleFunction, Executor)}, with the
+     * {@linkplain VirtualThreads#executor() executor} that starts a virtual thread
+     * for each operation (on Java 21 or later).
+     *
+     * @param supplier the simple operation
+     * @param <E>      type that can be thrown
+     * @return an {@linkplain AsyncStep} of {@link Void}, that completes once the operation ran
+     */
+    static <E extends Throwable> AsyncStep<Void> justVirtual(ThrowingSimpleFunction<E> supplier) {
+        return justAsync(supplier, VirtualThreads.executor());
+    }
+
+    /**
+     * Initiates an operation chain with {@linkplain Try a try}, retrying it according
+     * to the {@linkplain RetryPolicy policy} while it fails.
+     *
+     * <p>The calling thread sleeps between attempts. If it's interrupted meanwhile, the
+     * last failed step is returned and the interrupt status is kept.
+     *
+     * @param policy the retry policy
+     * @param aTry   the try operation
+     * @param <T>    the type of the provided value
+     * @return a {@linkplain Step} of the first successful attempt, or of the last failed one
+     */
+    static <T> Step<T> retrying(RetryPolicy policy, Try<T, ? extends Throwable> aTry) {
+        return Retries.retry(policy, aTry);
+    }
+
+    /**
+     * Same as {@link #retrying(RetryPolicy, Try)}, but the attempts run on the
+     * {@linkplain ScheduledExecutorService scheduler}, which also schedules the delays
+     * between them, instead of blocking the calling thread.
+     *
+     * @param policy    the retry policy
+     * @param aTry      the try operation
+     * @param scheduler the scheduler that runs the attempts and the following operations
+     * @param <T>       the type of the provided value
+     * @return an {@linkplain AsyncStep} of the first successful attempt, or of the last failed one
+     */
+    static <T> AsyncStep<T> retryingAsync(RetryPolicy policy, Try<T, ? extends Throwable> aTry,
+                                          ScheduledExecutorService scheduler) {
+        return Retries.retryAsync(policy, aTry, scheduler);
+    }
+
+    /**
+     * Runs {@linkplain Try a try} once the {@linkplain RateLimiter rate limiter} has a permit for it,
+     * waiting for the permit up to the timeout of the limiter.
+     *
+     * @param limiter the rate limiter
+     * @param aTry    the try operation
+     * @param <T>     the type of the provided value
+     * @return a {@linkplain Step} of the try, or a failed one holding a
+     * {@link RateLimitExceededException} if the limiter rejected the call
+     */
+    static <T> Step<T> rateLimited(RateLimiter limiter, Try<T, ? extends Throwable> aTry) {
+        return limiter.of(aTry);
+    }
+
+    /**
+     * Same as {@link #rateLimited(RateLimiter, Try)}, but the try runs on the
+     * {@linkplain ScheduledExecutorService scheduler}, which schedules it for when its permit is
+     * due instead of blocking the calling thread.
+     *
+     * @param limiter   the rate limiter
+     * @param aTry      the try operation
+     * @param scheduler the scheduler that runs the try and the following operations
+     * @param <T>       the type of the provided value
+     * @return an {@linkplain AsyncStep} of the try
+     */
+    static <T> AsyncStep<T> rateLimitedAsync(RateLimiter limiter, Try<T, ? extends Throwable> aTry,
+                                             ScheduledExecutorService scheduler) {
+        return limiter.ofAsync(aTry, scheduler);
+    }
+
+    /**
+     * Runs {@linkplain Try a try} on the given {@linkplain Executor executor}, starting another
+     * attempt of it whenever the running ones take longer than the {@code hedgeDelay}, or right
+     * away when they all failed, up to {@code maxHedges} more attempts. The try must be idempotent.
+     *
+     * <p>The calling thread waits for the first successful attempt, and the others are cancelled.
+     * If every attempt fails, the returned step holds the exception of the first one, with the
+     * exceptions of the others {@linkplain Throwable#getSuppressed() suppressed}.
+     *
+     * @param aTry       the try operation
+     * @param hedgeDelay how long to wait for the running attempts before starting another
+     * @param maxHedges  the maximum number of attempts after the first one
+     * @param executor   the executor that runs the attempts
+     * @param <T>        the type of the provided value
+     * @return a {@linkplain Step} of the first successful attempt, or failed with every failure
+     * @throws IllegalArgumentException if {@code maxHedges} is negative
+     */
+    static <T> Step<T> hedged(Try<T, ? extends Throwable> aTry, Duration hedgeDelay, int maxHedges,
+                              Executor executor) {
+        return Hedging.hedge(aTry, hedgeDelay.toNanos(), maxHedges, executor, null);
+    }
+
+    /**
+     * Same as {@link #hedged(Try, Duration, int, Executor)}, with the current estimate of the
+     * {@linkplain LatencyPercentile latency percentile} as the delay, recording the latency of the
+     * whole call into it, from the first attempt until the returned step, failed or not.
+     *
+     * @param aTry       the try operation
+     * @param hedgeDelay the latency percentile that delays each attempt
+     * @param maxHedges  the maximum number of attempts after the first one
+     * @param executor   the executor that runs the attempts
+     * @param <T>        the type of the provided value
+     * @return a {@linkplain Step} of the first successful attempt, or failed with every failure
+     * @throws IllegalArgumentException if {@code maxHedges} is negative
+     */
+    static <T> Step<T> hedged(Try<T, ? extends Throwable> aTry, LatencyPercentile hedgeDelay, int maxHedges,
+                              Executor executor) {
+        return Hedging.hedge(aTry, hedgeDelay.getNanos(), maxHedges, executor, hedgeDelay);
+    }
+
+    /**
+     * Applies a {@linkplain ThrowingFunction function} to every element, in order, collecting
+     * the value or the exception of each one into a {@link BatchResult}, without creating
+     * a {@code Step} for each element.
+     *
+     * @param elements the elements of the batch
+     * @param function the function to apply to each element
+     * @param <T>      the type of the elements
+     * @param <U>      the type of the values
+     * @return the {@code BatchResult}, with the same size and order of the elements
+     */
+    static <T, U> BatchResult<U> mapAll(Iterable<? extends T> elements,
+                                        ThrowingFunction<? super T, ? extends U, ? extends Throwable> function) {
+        return BatchResult.mapAll(elements, function);
+    }
+
+    /**
+     * Same as {@link #mapAll(Iterable, ThrowingFunction)}, but splits the elements into
+     * tasks that run in parallel on the {@linkplain ForkJoinPool#commonPool() common pool}.
+     * Every element runs, whatever the outcome of the others.
+     *
+     * @param elements the elements of the batch
+     * @param function the function to apply to each element, that must be safe to call concurrently
+     * @param <T>      the type of the elements
+     * @param <U>      the type of the values
+     * @return the {@code BatchResult}, with the same size and order of the elements
+     */
+    static <T, U> BatchResult<U> mapAllParallel(Collection<? extends T> elements,
+                                                ThrowingFunction<? super T, ? extends U, ? extends Throwable> function) {
+        return mapAllParallel(elements, function, BatchResult.Mode.COLLECT_ALL, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Same as {@link #mapAll(Iterable, ThrowingFunction)}, but splits the elements into
+     * tasks that run in parallel on the given {@linkplain ForkJoinPool pool}.
+     *
+     * @param elements the elements of the batch
+     * @param function the function to apply to each element, that must be safe to call concurrently
+     * @param mode     how a failed element affects the others
+     * @param pool     the pool that runs the tasks
+     * @param <T>      the type of the elements
+     * @param <U>      the type of the values
+     * @return the {@code BatchResult}, with the same size and order of the elements
+     */
+    static <T, U> BatchResult<U> mapAllParallel(Collection<? extends T> elements,
+                                                ThrowingFunction<? super T, ? extends U, ? extends Throwable> function,
+                                                BatchResult.Mode mode, ForkJoinPool pool) {
+        return BatchResult.mapAllParallel(elements, function, mode, pool);
+    }
+
+    /**
+     * Memoizes a {@linkplain ThrowingFunction function} with the default {@link CacheSpec}:
+     * up to 1024 successful results, that never expire.
+     *
+     * @param function the function to memoize, that must be deterministic
+     * @param <K>      the type of the keys
+     * @param <V>      the type of the values
+     * @return the {@link MemoizedTry}
+     */
+    static <K, V> MemoizedTry<K, V> memoize(ThrowingFunction<? super K, ? extends V, ? extends Throwable> function) {
+        return memoize(function, CacheSpec.builder().build());
+    }
+
+    /**
+     * Memoizes a {@linkplain ThrowingFunction function}, keeping its results according to the
+     * {@linkplain CacheSpec spec}. Concurrent callers of the same key share a single computation.
+     *
+     * @param function the function to memoize, that must be deterministic
+     * @param spec     how the results are kept
+     * @param <K>      the type of the keys
+     * @param <V>      the type of the values
+     * @return the {@link MemoizedTry}
+     */
+    static <K, V> MemoizedTry<K, V> memoize(ThrowingFunction<? super K, ? extends V, ? extends Throwable> function,
+                                            CacheSpec spec) {
+        return new MemoizedTry<>(function, spec);
+    }
+
+    /**
+     * Acquires a resource and applies a function to it, closing it afterward like a
+     * {@code try}-with-resources statement: an exception of closing the resource fails the step
+     * if the function returned, or is suppressed by the exception of the function otherwise.
+     * <blockquote><pre>
+     *  List&lt;String&gt; lines = Try.using(() -&gt; Files.newBufferedReader(path), reader -&gt; readLines(reader))
+     *          .orElse(Collections.emptyList());
+     * </pre></blockquote>
+     *
+     * @param resource acquires the resource
+     * @param function the function applied to the resource
+     * @param <R>      the type of the resource
+     * @param <T>      the type of the function's result
+     * @return a {@link Step} with the function's result, or failed with the first exception
+     */
+    static <R extends AutoCloseable, T> Step<T> using(Try<? extends R, ? extends Throwable> resource,
+                                                      ThrowingFunction<? super R, ? extends T, ? extends Throwable> function) {
+        return Resources.using(resource, function);
+    }
+
+    /**
+     * Same as {@link #using(Try, ThrowingFunction)}, but borrows the resource from a
+     * {@link ResourcePool}, returning it to the pool afterward instead of closing it.
+     *
+     * @param pool     the pool of the resources
+     * @param function the function applied to the resource
+     * @param <R>      the type of the resource
+     * @param <T>      the type of the function's result
+     * @return a {@link Step} with the function's result, or failed with the first exception
+     */
+    static <R extends AutoCloseable, T> Step<T> using(ResourcePool<R> pool,
+                                                      ThrowingFunction<? super R, ? extends T, ? extends Throwable> function) {
+        return pool.use(function);
     }
 
     /**
@@ -0,0 +1,43 @@
+package io.github.tiagobohnenberger.fntry;
+
+import jakarta.annotation.Nullable;
+
+/**
+ * Hooks of the JDK Flight Recorder events of the library.
+ *
+ * <p>The events need {@code jdk.jfr}, available since Java 11, and this library targets
+ * Java 8, so on earlier versions every hook is a no-op. The Java 11 version of this class,
+ * packaged under {@code META-INF/versions/11}, emits them.
+ */
+final class TryEvents {
+
+    private TryEvents() {
+    }
+
+    /**
+     * @return a token of an operation that has just started, to be passed to {@link #end(Object, Result)}
+     */
+    @Nullable
+    static Object begin() {
+        return null;
+    }
+
+    /**
+     * @param token  the token returned by {@link #begin()}
+     * @param result the result of the operation
+     * @param <R>    the type of the result
+     * @return the {@code result}
+     */
+    static <R extends Result<?>> R end(@Nullable Object token, R result) {
+        return result;
+    }
+
+    /**
+     * Called once per exception, by the catch block that swallows it into a failed step or
+     * result, rather than by the factories of the steps, which also copy and box failures.
+     *
+     * @param e the swallowed exception
+     */
+    static void failed(Throwable e) {
+    }
+}
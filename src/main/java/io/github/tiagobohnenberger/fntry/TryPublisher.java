@@ -0,0 +1,288 @@
+package io.github.tiagobohnenberger.fntry;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import jakarta.annotation.Nonnull;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * A Reactive Streams {@link Publisher} of the {@linkplain Result results} of a function applied to
+ * each element of another publisher:
+ * <blockquote><pre>
+ *  Publisher&lt;Result&lt;Order&gt;&gt; orders = TryPublisher.of(messages, parser::parse);
+ * </pre></blockquote>
+ *
+ * <p>An exception thrown by the function doesn't terminate the stream, but is published as a
+ * failed {@link Step} in place of the element, while an error of the upstream publisher is only
+ * signalled after the results of the elements received before it.
+ *
+ * <p>A {@linkplain #of(Publisher, ThrowingFunction, int, Executor) concurrent} publisher applies
+ * the function to up to a given number of elements at the same time, on the given executor, and
+ * still publishes the results in the order of the elements. It never requests more elements from
+ * upstream than it can apply or hold, so the {@linkplain Subscription#request(long) demand} of
+ * the subscriber is honored end to end.
+ *
+ * <p>On Java 9 or later, {@code org.reactivestreams.FlowAdapters} converts to and from
+ * {@code java.util.concurrent.Flow.Publisher}. The Reactive Streams API is an optional dependency
+ * of this library, needed only by the users of this class.
+ *
+ * @param <T> the type of the elements of the upstream publisher
+ * @param <U> the type of the results' values
+ */
+public final class TryPublisher<T, U> implements Publisher<Result<U>> {
+
+    private final Publisher<? extends T> source;
+    private final ThrowingFunction<? super T, ? extends U, ? extends Throwable> fn;
+    private final int concurrency;
+    private final Executor executor;
+
+    private TryPublisher(Publisher<? extends T> source, ThrowingFunction<? super T, ? extends U, ? extends Throwable> fn,
+                         int concurrency, Executor executor) {
+        this.source = Objects.requireNonNull(source, "source");
+        this.fn = Objects.requireNonNull(fn, "fn");
+        this.concurrency = concurrency;
+        this.executor = executor;
+    }
+
+    /**
+     * Applies the function to each element on the thread that publishes it.
+     *
+     * @param source the upstream publisher
+     * @param fn     the function applied to each element
+     * @param <T>    the type of the elements
+     * @param <U>    the type of the results' values
+     * @return a publisher of a result per element
+     */
+    public static <T, U> TryPublisher<T, U> of(@Nonnull Publisher<? extends T> source,
+                                               @Nonnull ThrowingFunction<? super T, ? extends U, ? extends Throwable> fn) {
+        return new TryPublisher<>(source, fn, 0, null);
+    }
+
+    /**
+     * Applies the function to up to {@code concurrency} elements at the same time, on the given
+     * executor, publishing the results in the order of the elements.
+     *
+     * @param source      the upstream publisher
+     * @param fn          the function applied to each element
+     * @param concurrency the maximum number of elements applied or held at the same time
+     * @param executor    the executor that applies the function
+     * @param <T>         the type of the elements
+     * @param <U>         the type of the results' values
+     * @return a publisher of a result per element
+     * @throws IllegalArgumentException if {@code concurrency} isn't positive
+     */
+    public static <T, U> TryPublisher<T, U> of(@Nonnull Publisher<? extends T> source,
+                                               @Nonnull ThrowingFunction<? super T, ? extends U, ? extends Throwable> fn,
+                                               int concurrency, @Nonnull Executor executor) {
+        if (concurrency <= 0) {
+            throw new IllegalArgumentException("concurrency must be positive: " + concurrency);
+        }
+        return new TryPublisher<>(source, fn, concurrency, Objects.requireNonNull(executor, "executor"));
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super Result<U>> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber");
+        if (executor == null) {
+            source.subscribe(new Mapping<>(subscriber, fn));
+        } else {
+            source.subscribe(new Concurrent<>(subscriber, fn, concurrency, executor));
+        }
+    }
+
+    private static <T, U> Step<U> apply(ThrowingFunction<? super T, ? extends U, ? extends Throwable> fn, T element) {
+        return Try.of(() -> fn.apply(element));
+    }
+
+    private static final class Mapping<T, U> implements Subscriber<T>, Subscription {
+
+        private final Subscriber<? super Result<U>> downstream;
+        private final ThrowingFunction<? super T, ? extends U, ? extends Throwable> fn;
+        private Subscription upstream;
+
+        Mapping(Subscriber<? super Result<U>> downstream, ThrowingFunction<? super T, ? extends U, ? extends Throwable> fn) {
+            this.downstream = downstream;
+            this.fn = fn;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.upstream = subscription;
+            downstream.onSubscribe(this);
+        }
+
+        @Override
+        public void onNext(T element) {
+            downstream.onNext(apply(fn, element));
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            downstream.onError(e);
+        }
+
+        @Override
+        public void onComplete() {
+            downstream.onComplete();
+        }
+
+        @Override
+        public void request(long n) {
+            upstream.request(n);
+        }
+
+        @Override
+        public void cancel() {
+            upstream.cancel();
+        }
+    }
+
+    private static final class Concurrent<T, U> implements Subscriber<T>, Subscription {
+
+        private final Subscriber<? super Result<U>> downstream;
+        private final ThrowingFunction<? super T, ? extends U, ? extends Throwable> fn;
+        private final int concurrency;
+        private final Executor executor;
+
+        // slots in the order of the elements; the upstream only publishes as many as requested
+        private final Queue<Slot<U>> slots = new ConcurrentLinkedQueue<>();
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+
+        private Subscription upstream;
+        private volatile boolean done;
+        private volatile boolean cancelled;
+        private volatile Throwable error;
+        private volatile Throwable rejection;
+        private boolean terminated;
+
+        Concurrent(Subscriber<? super Result<U>> downstream, ThrowingFunction<? super T, ? extends U, ? extends Throwable> fn,
+                   int concurrency, Executor executor) {
+            this.downstream = downstream;
+            this.fn = fn;
+            this.concurrency = concurrency;
+            this.executor = executor;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.upstream = subscription;
+            downstream.onSubscribe(this);
+            if (!cancelled) {
+                subscription.request(concurrency);
+            }
+        }
+
+        @Override
+        public void onNext(T element) {
+            if (done || cancelled) {
+                return;
+            }
+            Slot<U> slot = new Slot<>();
+            slots.offer(slot);
+            try {
+                executor.execute(() -> {
+                    slot.step = apply(fn, element);
+                    this.drain();
+                });
+            } catch (Throwable e) {
+                slot.step = Step.failed(e);
+                this.drain();
+            }
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            this.error = e;
+            this.done = true;
+            this.drain();
+        }
+
+        @Override
+        public void onComplete() {
+            this.done = true;
+            this.drain();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                this.rejection = new IllegalArgumentException("the number of requested elements must be positive (rule 3.9): " + n);
+                upstream.cancel();
+            } else {
+                long current;
+                long next;
+                do {
+                    current = requested.get();
+                    next = current + n < 0 ? Long.MAX_VALUE : current + n;
+                } while (!requested.compareAndSet(current, next));
+            }
+            this.drain();
+        }
+
+        @Override
+        public void cancel() {
+            if (!cancelled) {
+                this.cancelled = true;
+                upstream.cancel();
+                this.drain();
+            }
+        }
+
+        // serializes the signals to the subscriber: whoever moves wip off 0 emits for every thread
+        // that called in meanwhile
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                if (terminated || cancelled) {
+                    slots.clear();
+                } else if (rejection != null) {
+                    this.terminate(rejection);
+                } else {
+                    long demand = requested.get();
+                    long emitted = 0;
+                    Slot<U> slot;
+                    while (emitted != demand && (slot = slots.peek()) != null && slot.step != null) {
+                        slots.poll();
+                        downstream.onNext(slot.step);
+                        emitted++;
+                        if (!done) {
+                            upstream.request(1);
+                        }
+                    }
+                    if (emitted != 0 && demand != Long.MAX_VALUE) {
+                        requested.addAndGet(-emitted);
+                    }
+                    if (done && slots.isEmpty()) {
+                        this.terminate(error);
+                    }
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void terminate(Throwable e) {
+            this.terminated = true;
+            slots.clear();
+            if (e == null) {
+                downstream.onComplete();
+            } else {
+                downstream.onError(e);
+            }
+        }
+    }
+
+    private static final class Slot<U> {
+
+        volatile Step<U> step;
+    }
+}
@@ -0,0 +1,300 @@
+package io.github.tiagobohnenberger.fntry;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+/**
+ * A {@link Result} that is either a valid value or the {@linkplain Violation violations} of every
+ * rule the value broke.
+ *
+ * <p>Unlike a chain of {@linkplain Try tries}, which stops at the first exception thrown, the
+ * checks of a validation are independent of each other: they're all evaluated and
+ * {@linkplain #combine(Validation, Validation, BiFunction) combined} in one pass, accumulating
+ * their violations. A broken rule is a plain {@link Violation}, not a thrown exception, so an
+ * invalid value costs about as much as a valid one:
+ * <blockquote><pre>
+ *  Validation&lt;Order&gt; order = Validation.combine(
+ *          Validation.check(request.sku(), sku -&gt; !sku.isEmpty(), "sku", "must not be empty"),
+ *          Validation.check(request.quantity(), quantity -&gt; quantity &gt; 0, "quantity", "must be positive"),
+ *          Order::new);
+ *
+ *  order.otherwise((ValidationException e) -&gt; respond(400, e.getViolations()));
+ * </pre></blockquote>
+ *
+ * <p>An invalid validation {@linkplain #isFailed() fails} with a {@link ValidationException},
+ * which is only created if {@link #getException()} is called, so the
+ * {@linkplain FallbackStrategy fallbacks} of a {@code Result} apply as usual.
+ *
+ * @param <T> the type of the valid value
+ */
+public final class Validation<T> implements Result<T> {
+
+    private static final Violation[] NONE = new Violation[0];
+
+    private final T value;
+    private final Violation[] violations;
+    private volatile ValidationException exception;
+
+    private Validation(T value, Violation[] violations) {
+        this.value = value;
+        this.violations = violations;
+    }
+
+    /**
+     * @param value the valid value
+     * @param <T>   the type of the value
+     * @return a valid validation of the value
+     */
+    public static <T> Validation<T> valid(@Nullable T value) {
+        return new Validation<>(value, NONE);
+    }
+
+    /**
+     * @param message what is wrong with the value
+     * @param <T>     the type of the value
+     * @return an invalid validation with a violation of the message
+     */
+    public static <T> Validation<T> invalid(@Nonnull String message) {
+        return new Validation<>(null, new Violation[]{Violation.of(message)});
+    }
+
+    /**
+     * @param field   the name of the invalid field
+     * @param message what is wrong with the field
+     * @param <T>     the type of the value
+     * @return an invalid validation with a violation of the field
+     */
+    public static <T> Validation<T> invalid(@Nullable String field, @Nonnull String message) {
+        return new Validation<>(null, new Violation[]{Violation.of(field, message)});
+    }
+
+    /**
+     * @param violations the violations, at least one
+     * @param <T>        the type of the value
+     * @return an invalid validation with the violations
+     * @throws IllegalArgumentException if there's no violation
+     */
+    public static <T> Validation<T> invalid(@Nonnull List<Violation> violations) {
+        if (violations.isEmpty()) {
+            throw new IllegalArgumentException("an invalid validation needs a violation");
+        }
+        return new Validation<>(null, violations.toArray(NONE));
+    }
+
+    /**
+     * Checks a rule of a field.
+     *
+     * @param value   the value of the field
+     * @param rule    the rule that the value must match
+     * @param field   the name of the field
+     * @param message what is wrong with the field when it doesn't match
+     * @param <T>     the type of the value
+     * @return a valid validation of the value if it matches the rule, or an invalid one otherwise
+     */
+    public static <T> Validation<T> check(@Nullable T value, @Nonnull Predicate<? super T> rule,
+                                          @Nullable String field, @Nonnull String message) {
+        return rule.test(value) ? valid(value) : invalid(field, message);
+    }
+
+    /**
+     * Turns a {@link Result} into a validation, a failed result becoming a violation of the
+     * field with the message of its exception.
+     *
+     * @param result the result
+     * @param field  the name of the field
+     * @param <T>    the type of the value
+     * @return a validation of the result
+     */
+    public static <T> Validation<T> from(@Nonnull Result<T> result, @Nullable String field) {
+        if (!result.isFailed()) {
+            return valid(result.get());
+        }
+        Throwable e = result.getException();
+        return invalid(field, e == null || e.getMessage() == null ? String.valueOf(e) : e.getMessage());
+    }
+
+    /**
+     * Combines independent validations, accumulating the violations of all of them.
+     *
+     * @param validations the validations
+     * @return a valid validation with no value if all of them are valid, or an invalid one with
+     * their violations, in order, otherwise
+     */
+    public static Validation<Void> all(@Nonnull Validation<?>... validations) {
+        int count = 0;
+        for (Validation<?> validation : validations) {
+            count += validation.violations.length;
+        }
+        if (count == 0) {
+            return valid(null);
+        }
+        Violation[] all = new Violation[count];
+        int i = 0;
+        for (Validation<?> validation : validations) {
+            System.arraycopy(validation.violations, 0, all, i, validation.violations.length);
+            i += validation.violations.length;
+        }
+        return new Validation<>(null, all);
+    }
+
+    /**
+     * Combines two independent validations, accumulating their violations.
+     *
+     * @param a        the first validation
+     * @param b        the second validation
+     * @param combiner combines the valid values
+     * @param <A>      the type of the first value
+     * @param <B>      the type of the second value
+     * @param <R>      the type of the combined value
+     * @return a valid validation of the combined values if both are valid, or an invalid one with
+     * their violations otherwise
+     */
+    public static <A, B, R> Validation<R> combine(@Nonnull Validation<? extends A> a, @Nonnull Validation<? extends B> b,
+                                                  @Nonnull BiFunction<? super A, ? super B, ? extends R> combiner) {
+        if (a.violations.length + b.violations.length == 0) {
+            return valid(combiner.apply(a.value, b.value));
+        }
+        return new Validation<>(null, concat(a.violations, b.violations));
+    }
+
+    /**
+     * Combines three independent validations, accumulating their violations.
+     *
+     * @param a        the first validation
+     * @param b        the second validation
+     * @param c        the third validation
+     * @param combiner combines the valid values
+     * @param <A>      the type of the first value
+     * @param <B>      the type of the second value
+     * @param <C>      the type of the third value
+     * @param <R>      the type of the combined value
+     * @return a valid validation of the combined values if all are valid, or an invalid one with
+     * their violations otherwise
+     */
+    public static <A, B, C, R> Validation<R> combine(@Nonnull Validation<? extends A> a, @Nonnull Validation<? extends B> b,
+                                                     @Nonnull Validation<? extends C> c,
+                                                     @Nonnull Combiner3<? super A, ? super B, ? super C, ? extends R> combiner) {
+        if (a.violations.length + b.violations.length + c.violations.length == 0) {
+            return valid(combiner.apply(a.value, b.value, c.value));
+        }
+        return new Validation<>(null, concat(concat(a.violations, b.violations), c.violations));
+    }
+
+    /**
+     * @param mapper maps the valid value
+     * @param <U>    the type of the mapped value
+     * @return a valid validation of the mapped value, or this one if it's invalid
+     */
+    @SuppressWarnings("unchecked")
+    public <U> Validation<U> map(@Nonnull Function<? super T, ? extends U> mapper) {
+        return this.isFailed() ? (Validation<U>) this : valid(mapper.apply(value));
+    }
+
+    /**
+     * Chains a validation that depends on the valid value, which isn't evaluated if this
+     * one is invalid.
+     *
+     * @param next the validation of the valid value
+     * @param <U>  the type of the next value
+     * @return the next validation, or this one if it's invalid
+     */
+    @SuppressWarnings("unchecked")
+    public <U> Validation<U> andThen(@Nonnull Function<? super T, Validation<U>> next) {
+        return this.isFailed() ? (Validation<U>) this : next.apply(value);
+    }
+
+    /**
+     * @return the violations, empty if this validation is valid
+     */
+    public List<Violation> getViolations() {
+        return violations.length == 0 ? Collections.emptyList() : Collections.unmodifiableList(Arrays.asList(violations));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isFailed() {
+        return violations.length != 0;
+    }
+
+    /**
+     * @return a {@link ValidationException} of the violations, or {@code null} if this
+     * validation is valid
+     */
+    @Nullable
+    @Override
+    @SuppressWarnings("unchecked")
+    public <E extends Throwable> E getException() {
+        if (violations.length == 0) {
+            return null;
+        }
+        // a race only creates an equivalent exception twice
+        ValidationException e = exception;
+        if (e == null) {
+            e = new ValidationException(this.getViolations());
+            this.exception = e;
+        }
+        return (E) e;
+    }
+
+    /**
+     * @return the valid value, or {@code null} if this validation is invalid
+     */
+    @Nullable
+    @Override
+    public T get() {
+        return value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public T orElse(T other) {
+        return this.isFailed() ? other : value;
+    }
+
+    @Override
+    public String toString() {
+        return this.isFailed() ? "Invalid" + Arrays.toString(violations) : "Valid[" + value + "]";
+    }
+
+    private static Violation[] concat(Violation[] a, Violation[] b) {
+        if (b.length == 0) {
+            return a;
+        }
+        if (a.length == 0) {
+            return b;
+        }
+        Violation[] all = Arrays.copyOf(a, a.length + b.length);
+        System.arraycopy(b, 0, all, a.length, b.length);
+        return all;
+    }
+
+    /**
+     * Combines three values.
+     *
+     * @param <A> the type of the first value
+     * @param <B> the type of the second value
+     * @param <C> the type of the third value
+     * @param <R> the type of the combined value
+     */
+    @FunctionalInterface
+    public interface Combiner3<A, B, C, R> {
+
+        /**
+         * @param a the first value
+         * @param b the second value
+         * @param c the third value
+         * @return the combined value
+         */
+        R apply(A a, B b, C c);
+    }
+}
@@ -0,0 +1,29 @@
+package io.github.tiagobohnenberger.fntry;
+
+import java.util.List;
+
+/**
+ * The {@linkplain Result#getException() exception} of an invalid {@link Validation}, holding its
+ * {@linkplain Violation violations}. It's only created when asked for.
+ */
+public class ValidationException extends StacklessException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient List<Violation> violations;
+
+    /**
+     * @param violations the violations of the validation
+     */
+    public ValidationException(List<Violation> violations) {
+        super(violations.toString());
+        this.violations = violations;
+    }
+
+    /**
+     * @return the violations of the validation
+     */
+    public List<Violation> getViolations() {
+        return violations;
+    }
+}
@@ -0,0 +1,74 @@
+package io.github.tiagobohnenberger.fntry;
+
+import java.util.Objects;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+/**
+ * A rule broken by an {@linkplain Validation invalid} value: a plain value, rather than an
+ * exception, so that reporting it costs no stack trace.
+ */
+public final class Violation {
+
+    private final String field;
+    private final String message;
+
+    private Violation(String field, String message) {
+        this.field = field;
+        this.message = Objects.requireNonNull(message, "message");
+    }
+
+    /**
+     * @param message what is wrong with the value
+     * @return a violation of no particular field
+     */
+    public static Violation of(@Nonnull String message) {
+        return new Violation(null, message);
+    }
+
+    /**
+     * @param field   the name of the invalid field
+     * @param message what is wrong with the field
+     * @return a violation of the field
+     */
+    public static Violation of(@Nullable String field, @Nonnull String message) {
+        return new Violation(field, message);
+    }
+
+    /**
+     * @return the name of the invalid field, if any
+     */
+    @Nullable
+    public String getField() {
+        return field;
+    }
+
+    /**
+     * @return what is wrong with the value
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Violation)) {
+            return false;
+        }
+        Violation other = (Violation) o;
+        return Objects.equals(field, other.field) && message.equals(other.message);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Objects.hashCode(field) + message.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return field == null ? message : field + ": " + message;
+    }
+}
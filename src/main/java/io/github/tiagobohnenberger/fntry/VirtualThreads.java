@@ -0,0 +1,62 @@
+package io.github.tiagobohnenberger.fntry;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executor that runs each task on its own virtual thread.
+ *
+ * <p>Virtual threads exist since Java 21, and this library targets Java 8, so it ships as a
+ * multi-release jar: on Java 21 or later, {@link #executor()} starts a virtual thread per
+ * task; on earlier versions it falls back to a cached pool of daemon platform threads,
+ * which keeps the same thread-per-task behavior at a higher cost per blocked thread.
+ *
+ * <p>Unlike virtual threads, platform threads are a scarce resource, so the fallback pool
+ * never runs more than {@value #MAX_PLATFORM_THREADS} tasks at once: a task submitted
+ * beyond that is rejected, which fails its step with a
+ * {@link java.util.concurrent.RejectedExecutionException} instead of starting yet another
+ * thread. Idle threads are released after a minute.
+ *
+ * @see Try#ofVirtual(Try)
+ * @see Try#justVirtual(ThrowingSimpleFunction)
+ */
+public final class VirtualThreads {
+
+    static final int MAX_PLATFORM_THREADS = 256;
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * @return if the tasks of {@link #executor()} run on virtual threads
+     */
+    public static boolean isSupported() {
+        return false;
+    }
+
+    /**
+     * @return the shared executor that starts a thread for each task
+     */
+    public static Executor executor() {
+        return Holder.EXECUTOR;
+    }
+
+    private static final class Holder {
+        private static final ExecutorService EXECUTOR = new ThreadPoolExecutor(0, MAX_PLATFORM_THREADS,
+                60, TimeUnit.SECONDS, new SynchronousQueue<>(), new ThreadFactory() {
+            private final AtomicInteger count = new AtomicInteger();
+
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "fntry-" + count.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+    }
+}
@@ -0,0 +1,115 @@
+package io.github.tiagobohnenberger.fntry;
+
+import java.security.CodeSource;
+import java.util.Objects;
+import jakarta.annotation.Nullable;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Hooks of the JDK Flight Recorder events of the library.
+ *
+ * <p>This is the Java 11 version of the class, packaged under {@code META-INF/versions/11}.
+ * Nothing is allocated while the events are disabled:
+ * <blockquote><pre>
+ *  java -XX:StartFlightRecording:filename=app.jfr ...
+ *  jfr print --events io.github.tiagobohnenberger.fntry.FailedStep app.jfr
+ * </pre></blockquote>
+ */
+final class TryEvents {
+
+    private static final FailedStep FAILED_STEP = new FailedStep();
+    private static final SlowTry SLOW_TRY = new SlowTry();
+    @Nullable
+    private static final CodeSource LIBRARY = TryEvents.class.getProtectionDomain().getCodeSource();
+    private static final StackWalker WALKER = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+
+    private TryEvents() {
+    }
+
+    @Nullable
+    static Object begin() {
+        if (!SLOW_TRY.isEnabled()) {
+            return null;
+        }
+        SlowTry event = new SlowTry();
+        event.begin();
+        return event;
+    }
+
+    static <R extends Result<?>> R end(@Nullable Object token, R result) {
+        if (token != null) {
+            SlowTry event = (SlowTry) token;
+            event.end();
+            if (event.shouldCommit()) {
+                event.failed = result.isFailed();
+                event.site = site();
+                event.commit();
+            }
+        }
+        return result;
+    }
+
+    static void failed(Throwable e) {
+        if (!FAILED_STEP.isEnabled()) {
+            return;
+        }
+        FailedStep event = new FailedStep();
+        if (event.shouldCommit()) {
+            event.exceptionClass = e.getClass();
+            event.message = e.getMessage();
+            event.site = site();
+            event.commit();
+        }
+    }
+
+    /**
+     * @return the first frame of the stack outside of the library
+     */
+    @Nullable
+    private static String site() {
+        return WALKER.walk(frames -> frames
+                .filter(frame -> !Objects.equals(frame.getDeclaringClass().getProtectionDomain().getCodeSource(), LIBRARY))
+                .findFirst()
+                .map(frame -> frame.getClassName() + "." + frame.getMethodName() + ":" + frame.getLineNumber())
+                .orElse(null));
+    }
+
+    @Name("io.github.tiagobohnenberger.fntry.FailedStep")
+    @Label("Failed Step")
+    @Description("An exception held by a failed step instead of being thrown")
+    @Category("FnTry")
+    @StackTrace
+    static final class FailedStep extends Event {
+        @Label("Exception Class")
+        Class<?> exceptionClass;
+
+        @Label("Message")
+        String message;
+
+        @Label("Site")
+        @Description("The first frame outside of the library")
+        String site;
+    }
+
+    @Name("io.github.tiagobohnenberger.fntry.SlowTry")
+    @Label("Slow Try")
+    @Description("A try that took longer than the threshold")
+    @Category("FnTry")
+    @Threshold("20 ms")
+    @StackTrace
+    static final class SlowTry extends Event {
+        @Label("Failed")
+        boolean failed;
+
+        @Label("Site")
+        @Description("The first frame outside of the library")
+        String site;
+    }
+}
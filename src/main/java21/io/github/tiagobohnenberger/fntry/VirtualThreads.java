@@ -0,0 +1,38 @@
+package io.github.tiagobohnenberger.fntry;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Executor that runs each task on its own virtual thread.
+ *
+ * <p>This is the Java 21 version of the class, packaged under {@code META-INF/versions/21}.
+ *
+ * @see Try#ofVirtual(Try)
+ * @see Try#justVirtual(ThrowingSimpleFunction)
+ */
+public final class VirtualThreads {
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * @return if the tasks of {@link #executor()} run on virtual threads
+     */
+    public static boolean isSupported() {
+        return true;
+    }
+
+    /**
+     * @return the shared executor that starts a virtual thread for each task
+     */
+    public static Executor executor() {
+        return Holder.EXECUTOR;
+    }
+
+    private static final class Holder {
+        private static final ExecutorService EXECUTOR = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("fntry-", 0).factory());
+    }
+}
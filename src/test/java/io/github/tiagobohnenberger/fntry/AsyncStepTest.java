@@ -0,0 +1,129 @@
+package io.github.tiagobohnenberger.fntry;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.github.tiagobohnenberger.fntry.util.Bar;
+import io.github.tiagobohnenberger.fntry.util.Consumers;
+import io.github.tiagobohnenberger.fntry.util.DisplayNameGenerators;
+import io.github.tiagobohnenberger.fntry.util.Foo;
+import io.github.tiagobohnenberger.fntry.util.Suppliers;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Test;
+
+import static io.github.tiagobohnenberger.fntry.util.Bar.bar;
+import static io.github.tiagobohnenberger.fntry.util.Bar.fieldValueIs;
+import static io.github.tiagobohnenberger.fntry.util.Foo.dummyValueIs;
+import static io.github.tiagobohnenberger.fntry.util.Foo.foo;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayNameGeneration(DisplayNameGenerators.ReplaceCamelCase.class)
+class AsyncStepTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2, runnable -> {
+        Thread thread = new Thread(runnable, "async-step-test");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void givenTryOfAsync_shouldRunTheChainOnTheExecutor_whenNoErrorOccurs() {
+        AtomicReference<String> threadName = new AtomicReference<>();
+
+        Bar bar = Try.ofAsync(() -> new Foo(1), executor)
+                .consume(foo -> threadName.set(Thread.currentThread().getName()))
+                .apply(Foo::copy)
+                .map(Foo::toBarSameValue)
+                .orElse(new Bar(10))
+                .join();
+
+        assertThat(bar).is(bar(fieldValueIs(1)));
+        assertThat(threadName).hasValue("async-step-test");
+    }
+
+    @Test
+    void givenTryOfAsync_shouldReturnFallbackValue_whenAnErrorOnAnyStepOccurs() {
+        Bar bar = Try.ofAsync(() -> new Foo(1), executor)
+                .consume(Consumers::exceptionally)
+                .map(Foo::toBarSameValue)
+                .orElseGet(() -> new Bar(300))
+                .join();
+
+        assertThat(bar).is(bar(fieldValueIs(300)));
+    }
+
+    @Test
+    void givenTryOfAsync_shouldKeepTheException_whenInitialOperationThrows() {
+        Step<Foo> step = Try.ofAsync(Suppliers::newFooExceptionally, executor)
+                .apply(Foo::copy)
+                .join();
+
+        assertThat(step.isFailed()).isTrue();
+        assertThat(step.<Throwable>getException()).isExactlyInstanceOf(Throwable.class);
+    }
+
+    @Test
+    void givenTryOfAsync_shouldReturnFallbackResult_whenValueGetsFilteredOut() {
+        Foo foo = Try.ofAsync(() -> new Foo(10), executor)
+                .filter(aFoo -> aFoo.getDummyValue() == 1)
+                .orElse(new Foo(2))
+                .join();
+
+        assertThat(foo).is(foo(dummyValueIs(2)));
+    }
+
+    @Test
+    void givenTryOfAsync_shouldRunTheExceptionConsumer_whenAnyExceptionOccurs() {
+        AtomicReference<Throwable> handled = new AtomicReference<>();
+
+        Try.ofAsync(() -> Integer.parseInt("one"), executor)
+                .otherwise(handled::set)
+                .join();
+
+        assertThat(handled.get()).isExactlyInstanceOf(NumberFormatException.class);
+    }
+
+    @Test
+    void givenTryOfAsync_shouldBeFailure_whenTheExecutorRejectsTheTry() {
+        executor.shutdown();
+
+        Step<Foo> step = Try.ofAsync(Suppliers::newFoo, executor).join();
+
+        assertThat(step.isFailed()).isTrue();
+        assertThat(step.<Throwable>getException()).isInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    void givenAStageRejectedByTheExecutor_shouldFailTheStep_andRunTheFallback() {
+        AsyncStep<Foo> async = AsyncStep.from(CompletableFuture.completedFuture(new Foo(1)), executor);
+        executor.shutdown();
+
+        Step<Foo> step = async.apply(Foo::copy).join();
+        Foo fallback = async.orElse(new Foo(10)).join();
+
+        assertThat(step.<Throwable>getException()).isInstanceOf(RejectedExecutionException.class);
+        assertThat(fallback).is(foo(dummyValueIs(10)));
+    }
+
+    @Test
+    void givenExceptionallyCompletedStage_AsyncStepShouldBeFailure() {
+        CompletableFuture<Foo> future = new CompletableFuture<>();
+        future.completeExceptionally(new IllegalStateException());
+
+        Step<Foo> step = AsyncStep.from(future, executor)
+                .apply(Foo::copy)
+                .join();
+
+        assertThat(step.isFailed()).isTrue();
+        assertThat(step.<Throwable>getException()).isExactlyInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,134 @@
+package io.github.tiagobohnenberger.fntry;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import io.github.tiagobohnenberger.fntry.util.DisplayNameGenerators;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayNameGeneration(DisplayNameGenerators.ReplaceCamelCase.class)
+class BatchResultTest {
+
+    private static final List<String> INPUT = Arrays.asList("1", "two", "3", null, "five");
+
+    @Test
+    void givenMapAll_shouldKeepTheValueOrTheExceptionOfEachElementInOrder() {
+        BatchResult<Integer> batch = Try.mapAll(INPUT, Integer::parseInt);
+
+        assertThat(batch.size()).isEqualTo(5);
+        assertThat(batch.getFailureCount()).isEqualTo(3);
+        assertThat(batch.getSuccessCount()).isEqualTo(2);
+        assertThat(batch.isFailed()).isTrue();
+        assertThat(batch.get(2)).isEqualTo(3);
+        assertThat(batch.isFailed(1)).isTrue();
+        assertThat(batch.get(1)).isNull();
+        assertThat(batch.<Throwable>getException(1)).isExactlyInstanceOf(NumberFormatException.class);
+        assertThat(batch.<Throwable>getException(0)).isNull();
+    }
+
+    @Test
+    void givenMapAll_shouldExposeSuccessesAndFailuresInOrder() {
+        BatchResult<Integer> batch = Try.mapAll(INPUT, Integer::parseInt);
+
+        assertThat(batch.getSuccesses()).containsExactly(1, 3);
+        assertThat(batch.getFailures())
+                .hasSize(3)
+                .allMatch(NumberFormatException.class::isInstance);
+    }
+
+    @Test
+    void givenMapAll_shouldApplyTheFallbackSemanticsPerElement() {
+        BatchResult<String> batch = Try.mapAll(INPUT, s -> s == null ? null : s.substring(0, 2));
+        List<Throwable> handled = new ArrayList<>();
+
+        batch.otherwise(handled::add);
+
+        assertThat(batch.orElse("?")).containsExactly("?", "tw", "?", "?", "fi");
+        assertThat(batch.orElse(3, "none")).isEqualTo("none");
+        assertThat(batch.getResult(0).isFailed()).isTrue();
+        assertThat(batch.getResult(4).get()).isEqualTo("fi");
+        assertThat(handled).hasSize(2).allMatch(StringIndexOutOfBoundsException.class::isInstance);
+    }
+
+    @Test
+    void givenMapAll_shouldGrowBeyondTheInitialCapacity_whenTheSizeIsUnknown() {
+        List<Integer> numbers = IntStream.range(0, 100).boxed().collect(Collectors.toList());
+
+        BatchResult<Integer> batch = Try.mapAll(numbers::iterator, i -> {
+            if (i % 10 == 0) {
+                throw new IllegalArgumentException();
+            }
+            return i * 2;
+        });
+
+        assertThat(batch.size()).isEqualTo(100);
+        assertThat(batch.getFailureCount()).isEqualTo(10);
+        assertThat(batch.get(99)).isEqualTo(198);
+        assertThat(batch.isFailed(90)).isTrue();
+    }
+
+    @Test
+    void givenEmptyBatch_shouldNotBeFailed() {
+        BatchResult<Integer> batch = Try.mapAll(Collections.<String>emptyList(), Integer::parseInt);
+
+        assertThat(batch.size()).isZero();
+        assertThat(batch.isFailed()).isFalse();
+        assertThatThrownBy(() -> batch.get(0)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void givenMapAllParallel_shouldKeepTheOrderOfTheElements() {
+        List<String> input = IntStream.range(0, 10_000)
+                .mapToObj(i -> i % 100 == 0 ? "x" + i : String.valueOf(i))
+                .collect(Collectors.toList());
+
+        BatchResult<Integer> batch = Try.mapAllParallel(input, Integer::parseInt);
+
+        assertThat(batch.size()).isEqualTo(10_000);
+        assertThat(batch.getFailureCount()).isEqualTo(100);
+        assertThat(batch.isFailed(300)).isTrue();
+        assertThat(batch.<Throwable>getException(300)).isExactlyInstanceOf(NumberFormatException.class);
+        assertThat(batch.get(301)).isEqualTo(301);
+        assertThat(batch.getSuccesses()).hasSize(9_900).isSorted();
+    }
+
+    @Test
+    void givenMapAllParallelFailingFast_shouldSkipTheElementsAfterTheFirstFailure() {
+        ForkJoinPool pool = new ForkJoinPool(1);
+        AtomicInteger calls = new AtomicInteger();
+        List<Integer> input = IntStream.range(0, 1_000).boxed().collect(Collectors.toList());
+
+        BatchResult<Integer> batch = Try.mapAllParallel(input, i -> {
+            calls.incrementAndGet();
+            if (i == 0) {
+                throw new IllegalStateException();
+            }
+            return i;
+        }, BatchResult.Mode.FAIL_FAST, pool);
+        pool.shutdown();
+
+        assertThat(calls).hasValue(1);
+        assertThat(batch.getFailureCount()).isEqualTo(1_000);
+        assertThat(batch.<Throwable>getException(0)).isExactlyInstanceOf(IllegalStateException.class);
+        assertThat(batch.<Throwable>getException(999)).isExactlyInstanceOf(CancellationException.class);
+    }
+
+    @Test
+    void givenMapAllParallelOfNoElements_shouldBeEmpty() {
+        BatchResult<Integer> batch = Try.mapAllParallel(Collections.<String>emptyList(), Integer::parseInt);
+
+        assertThat(batch.size()).isZero();
+        assertThat(batch.isFailed()).isFalse();
+    }
+}
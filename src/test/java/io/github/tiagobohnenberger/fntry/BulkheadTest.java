@@ -0,0 +1,103 @@
+package io.github.tiagobohnenberger.fntry;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+
+import io.github.tiagobohnenberger.fntry.util.DisplayNameGenerators;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayNameGeneration(DisplayNameGenerators.ReplaceCamelCase.class)
+class BulkheadTest {
+
+    @Test
+    void givenRoom_shouldRunTheCall() {
+        Bulkhead bulkhead = Bulkhead.builder("test").maxConcurrentCalls(1).build();
+
+        String result = bulkhead.of(() -> "success").orElse("fallback");
+
+        assertThat(result).isEqualTo("success");
+        assertThat(bulkhead.getInFlight()).isZero();
+    }
+
+    @Test
+    void givenAFullBulkhead_shouldRejectTheCallWithoutRunningIt() {
+        Bulkhead bulkhead = Bulkhead.builder("test").maxConcurrentCalls(1).build();
+
+        Step<Step<String>> outer = bulkhead.of(() -> bulkhead.of(() -> "inner"));
+
+        Step<String> inner = outer.get();
+        assertThat(inner.isFailed()).isTrue();
+        assertThat(inner.<Throwable>getException()).isExactlyInstanceOf(BulkheadFullException.class);
+        assertThat(inner.orElse("fallback")).isEqualTo("fallback");
+        assertThat(bulkhead.getInFlight()).isZero();
+    }
+
+    @Test
+    void givenAFailedCall_shouldReleaseItsPermit() {
+        Bulkhead bulkhead = Bulkhead.builder("test").maxConcurrentCalls(1).build();
+
+        bulkhead.of(() -> {
+            throw new IllegalStateException();
+        });
+
+        assertThat(bulkhead.of(() -> "success").isFailed()).isFalse();
+    }
+
+    @Test
+    void givenWrap_shouldLimitTheCallsOfAFunction() {
+        Bulkhead bulkhead = Bulkhead.builder("test").maxConcurrentCalls(1).build();
+        ThrowingFunction<String, Step<Integer>, RuntimeException> parse = bulkhead.wrap(Integer::parseInt);
+
+        assertThat(parse.apply("42").get()).isEqualTo(42);
+        assertThat(parse.apply("x").<Throwable>getException()).isExactlyInstanceOf(NumberFormatException.class);
+    }
+
+    @Test
+    void givenAnAdaptiveBulkhead_shouldRaiseTheLimit_whileCallsAreFast() {
+        Bulkhead bulkhead = Bulkhead.builder("test").adaptive(1, 4, Duration.ofMinutes(1)).build();
+
+        for (int i = 0; i < 20; i++) {
+            bulkhead.of(() -> "success");
+        }
+
+        assertThat(bulkhead.getLimit()).isEqualTo(4);
+    }
+
+    @Test
+    void givenAnAdaptiveBulkhead_shouldLowerTheLimit_onAnOverload() {
+        Bulkhead bulkhead = Bulkhead.builder("test")
+                .adaptive(1, 8, Duration.ofMinutes(1))
+                .backoffRatio(0.5)
+                .overloadedOn(TimeoutException.class::isInstance)
+                .build();
+        for (int i = 0; i < 50; i++) {
+            bulkhead.of(() -> "success");
+        }
+
+        bulkhead.of(() -> {
+            throw new TimeoutException();
+        });
+
+        assertThat(bulkhead.getLimit()).isEqualTo(4);
+    }
+
+    @Test
+    void givenAnInvalidLimit_shouldThrow() {
+        assertThatThrownBy(() -> Bulkhead.builder("test").maxConcurrentCalls(0))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Bulkhead.builder("test").adaptive(4, 2, Duration.ZERO))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void givenANonPositiveLatencyThreshold_shouldThrow() {
+        assertThatThrownBy(() -> Bulkhead.builder("test").adaptive(1, 4, Duration.ZERO))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Bulkhead.builder("test").adaptive(1, 4, Duration.ofMillis(-1)))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,116 @@
+package io.github.tiagobohnenberger.fntry;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.github.tiagobohnenberger.fntry.util.DisplayNameGenerators;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayNameGeneration(DisplayNameGenerators.ReplaceCamelCase.class)
+class CircuitBreakerTest {
+
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @Test
+    void givenClosedBreaker_shouldRunTheCall() {
+        CircuitBreaker breaker = breaker(Duration.ofMinutes(1)).build();
+
+        String result = breaker.of(this::succeed).orElse("fallback");
+
+        assertThat(result).isEqualTo("success");
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void givenFailureRateReached_breakerShouldOpenAndRejectCallsWithoutRunningThem() {
+        CircuitBreaker breaker = breaker(Duration.ofMinutes(1)).build();
+        breaker.of(this::succeed);
+        breaker.of(this::fail);
+        breaker.of(this::succeed);
+        breaker.of(this::fail);
+
+        Step<String> step = breaker.of(this::succeed);
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(step.isFailed()).isTrue();
+        assertThat(step.<Throwable>getException()).isExactlyInstanceOf(CircuitOpenException.class);
+        assertThat(step.orElse("fallback")).isEqualTo("fallback");
+        assertThat(calls).hasValue(4);
+    }
+
+    @Test
+    void givenOldFailuresOutOfTheWindow_breakerShouldStayClosed() {
+        CircuitBreaker breaker = breaker(Duration.ofMinutes(1)).build();
+        breaker.of(this::fail);
+        breaker.of(this::succeed);
+        breaker.of(this::succeed);
+        breaker.of(this::succeed);
+        breaker.of(this::fail);
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void givenHalfOpenBreaker_shouldCloseAgain_whenTrialCallsSucceed() {
+        CircuitBreaker breaker = breaker(Duration.ZERO).build();
+        openBreaker(breaker);
+
+        breaker.of(this::succeed);
+        breaker.of(this::succeed);
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void givenHalfOpenBreaker_shouldOpenAgain_whenATrialCallFails() throws InterruptedException {
+        CircuitBreaker breaker = breaker(Duration.ofMillis(50)).build();
+        openBreaker(breaker);
+        Thread.sleep(60);
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        breaker.of(this::fail);
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.of(this::succeed).isFailed()).isTrue();
+    }
+
+    @Test
+    void givenIgnoredFailures_breakerShouldStayClosed() {
+        CircuitBreaker breaker = breaker(Duration.ofMinutes(1))
+                .recordFailureIf(e -> !(e instanceof IllegalStateException))
+                .build();
+
+        openBreaker(breaker);
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    // ---- private methods
+
+    private static CircuitBreaker.Builder breaker(Duration openDuration) {
+        return CircuitBreaker.builder("test")
+                .failureRateThreshold(0.5)
+                .slidingWindow(4, 4)
+                .openDuration(openDuration)
+                .permittedCallsInHalfOpen(2);
+    }
+
+    private void openBreaker(CircuitBreaker breaker) {
+        for (int i = 0; i < 4; i++) {
+            breaker.of(this::fail);
+        }
+    }
+
+    private String succeed() {
+        calls.incrementAndGet();
+        return "success";
+    }
+
+    private String fail() {
+        calls.incrementAndGet();
+        throw new IllegalStateException();
+    }
+}
@@ -0,0 +1,83 @@
+package io.github.tiagobohnenberger.fntry;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.github.tiagobohnenberger.fntry.util.DisplayNameGenerators;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayNameGeneration(DisplayNameGenerators.ReplaceCamelCase.class)
+class DeadlineStepTest {
+
+    @Test
+    void givenTryOfWithTimeout_shouldReturnTheValue_whenTheTryCompletesInTime() {
+        DeadlineStep<String> step = Try.of(() -> "value", Duration.ofSeconds(10))
+                .map(String::toUpperCase);
+
+        assertThat(step.get()).isEqualTo("VALUE");
+        assertThat(step.isExpired()).isFalse();
+        assertThat(step.getRemaining()).isPositive();
+    }
+
+    @Test
+    void givenTryOfWithTimeout_shouldFailAndInterruptTheTry_whenItDoesNotCompleteInTime() throws InterruptedException {
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        DeadlineStep<String> step = Try.of(() -> {
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return "late";
+        }, Duration.ofMillis(20));
+
+        assertThat(step.isFailed()).isTrue();
+        assertThat(step.<Throwable>getException()).isExactlyInstanceOf(DeadlineExceededException.class);
+        assertThat(step.orElse("fallback")).isEqualTo("fallback");
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void givenExpiredDeadline_followingOperationsShouldNotRun() throws InterruptedException {
+        AtomicBoolean ran = new AtomicBoolean();
+        DeadlineStep<String> step = Try.of(() -> "value", Duration.ofMillis(20));
+        Thread.sleep(30);
+
+        DeadlineStep<Integer> mapped = step
+                .consume(value -> ran.set(true))
+                .map(String::length);
+
+        assertThat(ran).isFalse();
+        assertThat(mapped.isExpired()).isTrue();
+        assertThat(mapped.getRemaining()).isZero();
+        assertThat(mapped.<Throwable>getException()).isExactlyInstanceOf(DeadlineExceededException.class);
+        assertThat(mapped.orElse(-1)).isEqualTo(-1);
+    }
+
+    @Test
+    void givenTryOfWithTimeout_shouldKeepTheException_whenTheTryFails() {
+        DeadlineStep<Integer> step = Try.of(() -> Integer.parseInt("one"), Duration.ofSeconds(10))
+                .apply(i -> i + 1);
+
+        assertThat(step.<Throwable>getException()).isExactlyInstanceOf(NumberFormatException.class);
+    }
+
+    @Test
+    void givenAnExecutorThatRejectsTheTry_shouldFailRightAway() {
+        long start = System.nanoTime();
+
+        DeadlineStep<String> step = Try.of(() -> "value", Duration.ofSeconds(10), command -> {
+            throw new RejectedExecutionException();
+        });
+
+        assertThat(step.<Throwable>getException()).isExactlyInstanceOf(RejectedExecutionException.class);
+        assertThat(System.nanoTime() - start).isLessThan(TimeUnit.SECONDS.toNanos(1));
+    }
+}
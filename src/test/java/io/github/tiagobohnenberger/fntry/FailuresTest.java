@@ -0,0 +1,97 @@
+package io.github.tiagobohnenberger.fntry;
+
+import io.github.tiagobohnenberger.fntry.util.DisplayNameGenerators;
+import io.github.tiagobohnenberger.fntry.util.Foo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+@DisplayNameGeneration(DisplayNameGenerators.ReplaceCamelCase.class)
+class FailuresTest {
+
+    @AfterEach
+    void tearDown() {
+        Failures.clear();
+    }
+
+    @Test
+    void givenExpectedType_TryOfShouldReturnTheSameSentinelStep_whenFailingRepeatedly() {
+        NumberFormatException sentinel = new NumberFormatException("not a number");
+        Failures.expect(NumberFormatException.class, sentinel);
+
+        Step<Integer> first = Try.of(() -> Integer.parseInt("one"));
+        Step<Integer> second = Try.of(() -> Integer.parseInt("two"));
+
+        assertThat(second).isSameAs(first);
+        assertThat(second.isFailed()).isTrue();
+        assertThat(second.<Throwable>getException()).isSameAs(sentinel);
+        assertThat(second.orElse(10)).isEqualTo(10);
+    }
+
+    @Test
+    void givenExpectedType_shouldLeaveTheThrownAndTheSentinelExceptionsUntouched() {
+        NumberFormatException sentinel = new NumberFormatException("not a number");
+        StackTraceElement[] sentinelTrace = sentinel.getStackTrace();
+        NumberFormatException thrown = new NumberFormatException("one");
+        Failures.expect(NumberFormatException.class, sentinel);
+
+        Try.of(() -> {
+            throw thrown;
+        });
+
+        assertThat(thrown.getStackTrace()).isNotEmpty();
+        assertThat(sentinel.getStackTrace()).isEqualTo(sentinelTrace);
+    }
+
+    @Test
+    void givenExpectedTypeWithSentinel_mapShouldFailWithTheRegisteredException() {
+        IllegalStateException sentinel = new IllegalStateException("expected");
+        Failures.expect(IllegalStateException.class, sentinel);
+
+        Result<Integer> result = Try.with(new Foo(1))
+                .map(foo -> {
+                    throw new IllegalStateException("actual");
+                });
+
+        assertThat(result.isFailed()).isTrue();
+        assertThat(result.<Throwable>getException()).isSameAs(sentinel);
+    }
+
+    @Test
+    void givenUnregisteredType_TryOfShouldKeepTheThrownException() {
+        Failures.expect(NumberFormatException.class, new NumberFormatException());
+
+        RuntimeException thrown = new IllegalArgumentException();
+        Step<Object> step = Try.of(() -> {
+            throw thrown;
+        });
+
+        assertThat(step.<Throwable>getException()).isSameAs(thrown);
+        assertThat(thrown.getStackTrace()).isNotEmpty();
+    }
+
+    @Test
+    void givenForgottenType_TryOfShouldKeepTheThrownException() {
+        Failures.expect(NumberFormatException.class, new NumberFormatException());
+        Failures.forget(NumberFormatException.class);
+
+        Step<Integer> first = Try.of(() -> Integer.parseInt("one"));
+        Step<Integer> second = Try.of(() -> Integer.parseInt("two"));
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(Failures.isExpected(NumberFormatException.class)).isFalse();
+    }
+
+    @Test
+    void givenLiftedStackless_shouldThrowStacklessExceptionWithTheCause() {
+        Throwable thrown = catchThrowable(() -> Try.liftedStackless(() -> Integer.parseInt("one")));
+
+        assertThat(thrown)
+                .isExactlyInstanceOf(StacklessException.class)
+                .hasCauseExactlyInstanceOf(NumberFormatException.class);
+        assertThat(thrown.getStackTrace()).isEmpty();
+    }
+}
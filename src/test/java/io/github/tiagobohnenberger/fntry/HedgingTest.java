@@ -0,0 +1,129 @@
+package io.github.tiagobohnenberger.fntry;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.github.tiagobohnenberger.fntry.util.DisplayNameGenerators;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayNameGeneration(DisplayNameGenerators.ReplaceCamelCase.class)
+class HedgingTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final AtomicInteger attempts = new AtomicInteger();
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void givenAFastAttempt_shouldNotHedge() {
+        Step<String> step = Try.hedged(() -> "attempt " + attempts.getAndIncrement(),
+                Duration.ofSeconds(5), 2, executor);
+
+        assertThat(step.get()).isEqualTo("attempt 0");
+        assertThat(attempts).hasValue(1);
+    }
+
+    @Test
+    void givenASlowAttempt_shouldHedgeAndCancelTheLoser() throws InterruptedException {
+        CountDownLatch cancelled = new CountDownLatch(1);
+
+        Step<String> step = Try.hedged(() -> {
+            int attempt = attempts.getAndIncrement();
+            if (attempt == 0) {
+                try {
+                    Thread.sleep(10_000);
+                } catch (InterruptedException e) {
+                    cancelled.countDown();
+                    throw e;
+                }
+            }
+            return "attempt " + attempt;
+        }, Duration.ofMillis(20), 2, executor);
+
+        assertThat(step.get()).isEqualTo("attempt 1");
+        assertThat(cancelled.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void givenEveryAttemptFailing_shouldAggregateTheirExceptions() {
+        Step<String> step = Try.hedged(() -> {
+            throw new IllegalStateException("attempt " + attempts.getAndIncrement());
+        }, Duration.ofSeconds(5), 2, executor);
+
+        Throwable failure = step.getException();
+        assertThat(failure).hasMessage("attempt 0");
+        assertThat(failure.getSuppressed()).hasSize(2);
+        assertThat(attempts).hasValue(3);
+    }
+
+    @Test
+    void givenARejectedAttempt_shouldFail() {
+        Step<String> step = Try.hedged(() -> "value", Duration.ofMillis(1), 0, command -> {
+            throw new IllegalStateException("rejected");
+        });
+
+        assertThat(step.<Throwable>getException()).hasMessage("rejected");
+    }
+
+    @Test
+    void givenALatencyPercentile_shouldEstimateItFromTheRecordedCalls() {
+        LatencyPercentile p95 = new LatencyPercentile(0.95, Duration.ofMillis(10));
+        assertThat(p95.get()).isEqualTo(Duration.ofMillis(10));
+
+        for (int i = 1; i <= LatencyPercentile.WINDOW; i++) {
+            p95.record(TimeUnit.MILLISECONDS.toNanos(i));
+        }
+
+        assertThat(p95.get()).isEqualTo(Duration.ofMillis(244));
+        assertThat(Try.hedged(() -> "value", p95, 1, executor).get()).isEqualTo("value");
+    }
+
+    @Test
+    void givenALatencyPercentile_shouldRecordTheWholeCall_fromTheFirstAttempt() {
+        LatencyPercentile max = new LatencyPercentile(1, Duration.ofMillis(20));
+
+        for (int i = 0; i < LatencyPercentile.REFRESH; i++) {
+            Step<String> step = Try.hedged(() -> {
+                if (attempts.getAndIncrement() % 2 == 0) {
+                    Thread.sleep(10_000);
+                }
+                return "hedge";
+            }, max, 1, executor);
+            assertThat(step.get()).isEqualTo("hedge");
+        }
+
+        assertThat(max.get()).isGreaterThanOrEqualTo(Duration.ofMillis(20));
+    }
+
+    @Test
+    void givenALatencyPercentile_shouldRecordTheFailedCalls() {
+        LatencyPercentile max = new LatencyPercentile(1, Duration.ZERO);
+
+        for (int i = 0; i < LatencyPercentile.REFRESH; i++) {
+            Try.hedged(() -> {
+                Thread.sleep(5);
+                throw new IllegalStateException();
+            }, max, 0, executor);
+        }
+
+        assertThat(max.get()).isGreaterThanOrEqualTo(Duration.ofMillis(5));
+    }
+
+    @Test
+    void givenAnInvalidPercentile_shouldThrow() {
+        assertThatThrownBy(() -> new LatencyPercentile(0, Duration.ZERO))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,145 @@
+package io.github.tiagobohnenberger.fntry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.github.tiagobohnenberger.fntry.util.DisplayNameGenerators;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayNameGeneration(DisplayNameGenerators.ReplaceCamelCase.class)
+class LazyStepTest {
+
+    @Test
+    void givenLazy_shouldNotRun_untilATerminalMethodIsCalled() {
+        AtomicInteger runs = new AtomicInteger();
+
+        LazyStep<Integer> step = Try.lazy(() -> {
+                    runs.incrementAndGet();
+                    return " 42 ";
+                })
+                .apply(String::trim)
+                .map(Integer::parseInt);
+
+        assertThat(runs).hasValue(0);
+        assertThat(step.isEvaluated()).isFalse();
+        assertThat(step.orElse(-1)).isEqualTo(42);
+        assertThat(step.isEvaluated()).isTrue();
+    }
+
+    @Test
+    void givenLazy_shouldRunOnce_forEveryTerminalMethod() {
+        AtomicInteger runs = new AtomicInteger();
+        LazyStep<String> step = Try.lazy(() -> {
+            runs.incrementAndGet();
+            return "value";
+        });
+
+        step.isFailed();
+        step.get();
+        step.orElse("other");
+        step.getResult();
+
+        assertThat(runs).hasValue(1);
+    }
+
+    @Test
+    void givenLazy_shouldSkipTheOperationsAfterAFailure() {
+        AtomicInteger consumed = new AtomicInteger();
+
+        LazyStep<Integer> step = Try.lazy(() -> "forty-two")
+                .map(Integer::parseInt)
+                .consume(i -> consumed.incrementAndGet());
+
+        assertThat(step.isFailed()).isTrue();
+        assertThat(step.<Throwable>getException()).isExactlyInstanceOf(NumberFormatException.class);
+        assertThat(step.orElse(-1)).isEqualTo(-1);
+        assertThat(consumed).hasValue(0);
+    }
+
+    @Test
+    void givenFilter_shouldHaveNoValue_whenThePredicateDoesNotMatch() {
+        LazyStep<String> step = Try.lazy(() -> "value").filter(String::isEmpty);
+
+        assertThat(step.orElse("empty")).isEqualTo("empty");
+    }
+
+    @Test
+    void givenRun_shouldRunTheRecordedChainAgain() {
+        AtomicInteger source = new AtomicInteger();
+        LazyStep<Integer> step = Try.lazy(source::incrementAndGet).apply(i -> i * 10);
+
+        assertThat(step.get()).isEqualTo(10);
+        assertThat(step.run().get()).isEqualTo(20);
+        assertThat(step.run().get()).isEqualTo(30);
+        assertThat(step.get()).isEqualTo(10);
+    }
+
+    @Test
+    void givenARecordedStep_shouldBeExtendedIndependently() {
+        LazyStep<String> base = Try.lazy(() -> "a");
+
+        LazyStep<String> left = base.apply(s -> s + "b");
+        LazyStep<String> right = base.apply(s -> s + "c");
+
+        assertThat(left.get()).isEqualTo("ab");
+        assertThat(right.get()).isEqualTo("ac");
+        assertThat(base.get()).isEqualTo("a");
+    }
+
+    @Test
+    void givenGetResult_shouldNotExposeTheReusableCarrier() {
+        LazyStep<String> step = Try.lazy(() -> "a");
+
+        ((Step<String>) step.getResult()).apply(s -> s + "b");
+
+        assertThat(step.get()).isEqualTo("a");
+    }
+
+    @Test
+    void givenConcurrentTerminalMethods_shouldRunTheChainOnce() throws Exception {
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        LazyStep<Integer> step = Try.lazy(() -> {
+            runs.incrementAndGet();
+            Thread.sleep(50);
+            return 42;
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return step.get();
+                }));
+            }
+            start.countDown();
+
+            for (Future<Integer> future : futures) {
+                assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo(42);
+            }
+            assertThat(runs).hasValue(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void givenALongChain_shouldRunItWithoutRecursing() {
+        LazyStep<Integer> step = Try.lazy(() -> 0);
+        for (int i = 0; i < 100_000; i++) {
+            step = step.map(n -> n + 1);
+        }
+
+        assertThat(step.get()).isEqualTo(100_000);
+    }
+}
@@ -0,0 +1,170 @@
+package io.github.tiagobohnenberger.fntry;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.github.tiagobohnenberger.fntry.util.DisplayNameGenerators;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayNameGeneration(DisplayNameGenerators.ReplaceCamelCase.class)
+class MemoizedTryTest {
+
+    @Test
+    void givenMemoize_shouldComputeEachKeyOnce() {
+        AtomicInteger calls = new AtomicInteger();
+        MemoizedTry<String, Integer> memoized = Try.memoize(s -> {
+            calls.incrementAndGet();
+            return s.length();
+        });
+
+        assertThat(memoized.apply("abc").get()).isEqualTo(3);
+        assertThat(memoized.apply("abc").get()).isEqualTo(3);
+        assertThat(memoized.apply("ab").get()).isEqualTo(2);
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void givenConcurrentCallers_shouldShareASingleComputation() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        MemoizedTry<String, Integer> memoized = Try.memoize(s -> {
+            calls.incrementAndGet();
+            release.await();
+            return s.length();
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Step<Integer>>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> memoized.apply("abc")));
+            }
+            Thread.sleep(100);
+            release.countDown();
+
+            Step<Integer> first = futures.get(0).get();
+            for (Future<Step<Integer>> future : futures) {
+                assertThat(future.get()).isSameAs(first);
+            }
+            assertThat(calls).hasValue(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void givenAFailure_shouldNotKeepIt_byDefault() {
+        AtomicInteger calls = new AtomicInteger();
+        MemoizedTry<String, Integer> memoized = Try.memoize(s -> {
+            calls.incrementAndGet();
+            return Integer.parseInt(s);
+        });
+
+        assertThat(memoized.apply("x").<Throwable>getException()).isExactlyInstanceOf(NumberFormatException.class);
+        memoized.apply("x");
+
+        assertThat(calls).hasValue(2);
+        assertThat(memoized.size()).isZero();
+    }
+
+    @Test
+    void givenCacheFailuresFor_shouldKeepAFailureUntilItExpires() throws InterruptedException {
+        AtomicInteger calls = new AtomicInteger();
+        MemoizedTry<String, Integer> memoized = Try.memoize(s -> {
+            calls.incrementAndGet();
+            return Integer.parseInt(s);
+        }, CacheSpec.builder().cacheFailuresFor(Duration.ofMillis(50)).build());
+
+        memoized.apply("x");
+        memoized.apply("x");
+        assertThat(calls).hasValue(1);
+
+        Thread.sleep(80);
+        memoized.apply("x");
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void givenExpireAfterWrite_shouldComputeAgain_afterTheResultExpires() throws InterruptedException {
+        AtomicInteger calls = new AtomicInteger();
+        MemoizedTry<String, Integer> memoized = Try.memoize(s -> calls.incrementAndGet(),
+                CacheSpec.builder().expireAfterWrite(Duration.ofMillis(50)).build());
+
+        assertThat(memoized.apply("key").get()).isEqualTo(1);
+        Thread.sleep(80);
+
+        assertThat(memoized.apply("key").get()).isEqualTo(2);
+    }
+
+    @Test
+    void givenMaximumSize_shouldEvictTheLeastRecentlyUsedResult() {
+        AtomicInteger calls = new AtomicInteger();
+        MemoizedTry<Integer, Integer> memoized = Try.memoize(i -> {
+            calls.incrementAndGet();
+            return i * 2;
+        }, CacheSpec.builder().maximumSize(2).build());
+
+        memoized.apply(1);
+        memoized.apply(2);
+        memoized.apply(1);
+        memoized.apply(3);
+        assertThat(memoized.size()).isEqualTo(2);
+
+        memoized.apply(1);
+        assertThat(calls).hasValue(3);
+    }
+
+    @Test
+    void givenMoreKeysThanTheMaximumSize_shouldKeepTheMaximumSize() {
+        MemoizedTry<Integer, Integer> memoized = Try.memoize(i -> i, CacheSpec.builder().maximumSize(10).build());
+
+        for (int i = 0; i < 1_000; i++) {
+            memoized.apply(i);
+        }
+
+        assertThat(memoized.size()).isEqualTo(10);
+        assertThat(memoized.apply(999).get()).isEqualTo(999);
+    }
+
+    @Test
+    void givenInvalidate_shouldComputeTheKeyAgain() {
+        AtomicInteger calls = new AtomicInteger();
+        MemoizedTry<String, Integer> memoized = Try.memoize(s -> calls.incrementAndGet());
+
+        memoized.apply("key");
+        memoized.invalidate("key");
+        memoized.apply("key");
+        memoized.invalidateAll();
+
+        assertThat(calls).hasValue(2);
+        assertThat(memoized.size()).isZero();
+    }
+
+    @Test
+    void givenAnInvalidSpec_shouldThrow() {
+        assertThatThrownBy(() -> CacheSpec.builder().maximumSize(0))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CacheSpec.builder().cacheFailuresFor(Duration.ofSeconds(-1)))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void givenARecursiveCallOfTheSameKey_shouldFailInsteadOfWaitingForItself() {
+        AtomicReference<MemoizedTry<String, Integer>> self = new AtomicReference<>();
+        self.set(Try.memoize(s -> self.get().apply(s).orElse(-1)));
+
+        Step<Integer> step = self.get().apply("key");
+
+        assertThat(step.get()).isEqualTo(-1);
+    }
+}
@@ -0,0 +1,82 @@
+package io.github.tiagobohnenberger.fntry;
+
+import io.github.tiagobohnenberger.fntry.util.DisplayNameGenerators;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayNameGeneration(DisplayNameGenerators.ReplaceCamelCase.class)
+class MetricsTest {
+
+    private static final NamedTry PARSE = Try.named("parse");
+
+    @AfterEach
+    void uninstall() {
+        Metrics.uninstall();
+    }
+
+    @Test
+    void givenNoRecorder_shouldRunTheTryLikeTryOf() {
+        assertThat(PARSE.of(() -> Integer.parseInt("42")).get()).isEqualTo(42);
+        assertThat(PARSE.just(() -> Integer.parseInt("x")).isFailed()).isTrue();
+    }
+
+    @Test
+    void givenARecorder_shouldRecordCallsAndFailuresByType() {
+        InMemoryMetrics metrics = new InMemoryMetrics();
+        Metrics.install(metrics);
+
+        PARSE.of(() -> Integer.parseInt("42"));
+        PARSE.of(() -> Integer.parseInt("x"));
+        PARSE.just(() -> {
+            throw new IllegalStateException();
+        });
+
+        InMemoryMetrics.Stats stats = metrics.get("parse");
+        assertThat(stats.getCalls()).isEqualTo(3);
+        assertThat(stats.getFailures()).isEqualTo(2);
+        assertThat(stats.getFailuresByType()).containsOnly(
+                entry(NumberFormatException.class, 1L),
+                entry(IllegalStateException.class, 1L));
+        assertThat(stats.getLatency().getCount()).isEqualTo(3);
+        assertThat(metrics.get("other")).isNull();
+    }
+
+    @Test
+    void givenUninstall_shouldStopRecording() {
+        InMemoryMetrics metrics = new InMemoryMetrics();
+        Metrics.install(metrics);
+        Metrics.uninstall();
+
+        PARSE.of(() -> 42);
+
+        assertThat(metrics.getAll()).isEmpty();
+    }
+
+    @Test
+    void givenLatencyHistogram_shouldKeepPercentilesWithinItsPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000L);
+        }
+
+        assertThat(histogram.getCount()).isEqualTo(1000);
+        assertThat((double) histogram.getPercentile(0.5)).isCloseTo(500_000, within(500_000 / 32.0));
+        assertThat((double) histogram.getPercentile(0.99)).isCloseTo(990_000, within(990_000 / 32.0));
+        assertThat((double) histogram.getMax()).isCloseTo(1_000_000, within(1_000_000 / 32.0));
+    }
+
+    @Test
+    void givenLatencyHistogram_shouldBucketEveryValueInItsRange() {
+        for (long value : new long[]{0, 1, 31, 32, 64, 1000, 123_456_789L, Long.MAX_VALUE}) {
+            int index = LatencyHistogram.indexOf(value);
+            long lowest = index == 0 ? 0 : LatencyHistogram.highestValueOf(index - 1) + 1;
+
+            assertThat(value).isBetween(lowest, LatencyHistogram.highestValueOf(index));
+        }
+    }
+}
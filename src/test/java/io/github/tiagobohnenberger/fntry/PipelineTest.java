@@ -0,0 +1,90 @@
+package io.github.tiagobohnenberger.fntry;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.github.tiagobohnenberger.fntry.util.DisplayNameGenerators;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayNameGeneration(DisplayNameGenerators.ReplaceCamelCase.class)
+class PipelineTest {
+
+    private static final Pipeline.Compiled<String, Integer> PORT = Pipeline.<String>start()
+            .apply(String::trim)
+            .filter(s -> !s.isEmpty())
+            .map(Integer::parseInt)
+            .compile();
+
+    @ParameterizedTest
+    @NullSource
+    @ValueSource(strings = {" 42 ", "forty-two", "  "})
+    void givenCompiled_shouldBehaveLikeTheEquivalentStepChain(String input) {
+        Result<Integer> expected = Step.with(input)
+                .apply(String::trim)
+                .filter(s -> !s.isEmpty())
+                .map(Integer::parseInt);
+
+        Result<Integer> result = PORT.apply(input);
+
+        assertThat(result.isFailed()).isEqualTo(expected.isFailed());
+        assertThat(result.get()).isEqualTo(expected.get());
+        assertThat(exceptionType(result)).isEqualTo(exceptionType(expected));
+    }
+
+    @Test
+    void givenCompiled_shouldSkipTheOperationsAfterAFailure() {
+        List<String> consumed = new ArrayList<>();
+        Pipeline.Compiled<String, String> pipeline = Pipeline.<String>start()
+                .apply(s -> {
+                    throw new IllegalStateException();
+                })
+                .consume(consumed::add)
+                .compile();
+
+        Result<String> result = pipeline.apply("value");
+
+        assertThat(result.isFailed()).isTrue();
+        assertThat(result.get()).isEqualTo("value");
+        assertThat(consumed).isEmpty();
+    }
+
+    @Test
+    void givenAHolder_shouldWriteTheOutputIntoIt() {
+        Step<Integer> holder = Step.reusable(null);
+
+        assertThat(PORT.apply("8080", holder)).isSameAs(holder);
+        assertThat(holder.get()).isEqualTo(8080);
+        assertThat(PORT.apply("http", holder).isFailed()).isTrue();
+        assertThat(PORT.apply("443", holder).get()).isEqualTo(443);
+        assertThat(holder.isFailed()).isFalse();
+    }
+
+    @Test
+    void givenAHolder_shouldThrow_whenItIsNotReusable() {
+        assertThatThrownBy(() -> PORT.apply("8080", Step.with(0)))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void givenAPipeline_shouldBeExtendedIndependently() {
+        Pipeline<String, String> trimmed = Pipeline.<String>start().apply(String::trim);
+
+        Pipeline.Compiled<String, Integer> length = trimmed.map(String::length).compile();
+        Pipeline.Compiled<String, String> upper = trimmed.apply(String::toUpperCase).compile();
+
+        assertThat(length.apply(" ab ").get()).isEqualTo(2);
+        assertThat(upper.apply(" ab ").get()).isEqualTo("AB");
+        assertThat(trimmed.compile().apply(" ab ").get()).isEqualTo("ab");
+    }
+
+    private static Class<?> exceptionType(Result<?> result) {
+        return result.isFailed() ? result.<Throwable>getException().getClass() : null;
+    }
+}
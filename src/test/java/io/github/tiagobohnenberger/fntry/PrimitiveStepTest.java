@@ -0,0 +1,87 @@
+package io.github.tiagobohnenberger.fntry;
+
+import java.util.OptionalInt;
+
+import io.github.tiagobohnenberger.fntry.util.DisplayNameGenerators;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayNameGeneration(DisplayNameGenerators.ReplaceCamelCase.class)
+class PrimitiveStepTest {
+
+    @Test
+    void givenOfInt_shouldMapTheValueWithoutBoxing() {
+        int value = Try.ofInt(() -> Integer.parseInt("21"))
+                .map(i -> i * 2)
+                .orElse(0);
+
+        assertThat(value).isEqualTo(42);
+    }
+
+    @Test
+    void givenOfInt_shouldSkipTheFollowingOperations_whenTheTryFails() {
+        IntStep step = Try.ofInt(() -> Integer.parseInt("twenty-one"))
+                .apply(i -> {
+                    throw new IllegalStateException();
+                });
+
+        assertThat(step.isFailed()).isTrue();
+        assertThat(step.isPresent()).isFalse();
+        assertThat(step.<Throwable>getException()).isExactlyInstanceOf(NumberFormatException.class);
+        assertThat(step.orElse(-1)).isEqualTo(-1);
+    }
+
+    @Test
+    void givenApply_shouldFail_whenTheOperationThrows() {
+        LongStep step = Try.ofLong(() -> Long.MAX_VALUE)
+                .apply(l -> Math.multiplyExact(l, 2));
+
+        assertThat(step.<Throwable>getException()).isExactlyInstanceOf(ArithmeticException.class);
+        assertThat(step.orElseGet(() -> 7L)).isEqualTo(7L);
+    }
+
+    @Test
+    void givenFilter_shouldHaveNoValue_whenThePredicateDoesNotMatch() {
+        IntStep step = IntStep.with(3).filter(i -> i > 5);
+
+        assertThat(step.isFailed()).isFalse();
+        assertThat(step.isPresent()).isFalse();
+        assertThat(step.asOptional()).isEqualTo(OptionalInt.empty());
+        assertThat(step.orElse(0)).isZero();
+        assertThat(step.boxed().get()).isNull();
+    }
+
+    @Test
+    void givenFilter_shouldKeepTheFailure_whenTheStepFailed() {
+        IntStep step = IntStep.failed(new IllegalStateException()).filter(i -> true);
+
+        assertThat(step.isFailed()).isTrue();
+    }
+
+    @Test
+    void givenOfDouble_shouldKeepTheSignOfZero() {
+        double value = Try.ofDouble(() -> 0.0)
+                .apply(d -> -d)
+                .getAsDouble();
+
+        assertThat(1 / value).isNegative();
+    }
+
+    @Test
+    void givenBoxed_shouldKeepTheValueOrTheException() {
+        assertThat(Try.ofInt(() -> 3).boxed().get()).isEqualTo(3);
+        assertThat(Try.ofInt(() -> {
+            throw new IllegalStateException();
+        }).boxed().isFailed()).isTrue();
+    }
+
+    @Test
+    void givenOrThen_shouldRunTheFallback_whenTheStepFailed() {
+        int value = IntStep.failed(new IllegalStateException())
+                .orThen(i -> i + 1, -1);
+
+        assertThat(value).isEqualTo(1);
+    }
+}
@@ -0,0 +1,160 @@
+package io.github.tiagobohnenberger.fntry;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.github.tiagobohnenberger.fntry.util.DisplayNameGenerators;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayNameGeneration(DisplayNameGenerators.ReplaceCamelCase.class)
+class RateLimiterTest {
+
+    @Test
+    void givenABurst_shouldRunUpToItsPermits_andRejectTheRestWithoutRunningThem() {
+        RateLimiter limiter = RateLimiter.builder("test").limitForPeriod(3, Duration.ofMinutes(1)).build();
+        AtomicInteger calls = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(Try.rateLimited(limiter, calls::incrementAndGet).isFailed()).isFalse();
+        }
+        Step<Integer> rejected = Try.rateLimited(limiter, calls::incrementAndGet);
+
+        assertThat(rejected.<Throwable>getException()).isExactlyInstanceOf(RateLimitExceededException.class);
+        assertThat(calls).hasValue(3);
+        assertThat(limiter.getAvailablePermits()).isZero();
+    }
+
+    @Test
+    void givenATimeout_shouldWaitForThePermits_spreadOverThePeriod() {
+        RateLimiter limiter = RateLimiter.builder("test")
+                .limitForPeriod(10, Duration.ofMillis(100))
+                .burst(1)
+                .timeout(Duration.ofSeconds(1))
+                .build();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 11; i++) {
+            assertThat(Try.rateLimited(limiter, () -> "call").isFailed()).isFalse();
+        }
+
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(90));
+    }
+
+    @Test
+    void givenAPermitDueAfterTheTimeout_shouldRejectTheCallRightAway() {
+        RateLimiter limiter = RateLimiter.builder("test")
+                .limitForPeriod(1, Duration.ofMinutes(1))
+                .timeout(Duration.ofSeconds(2))
+                .build();
+        limiter.tryAcquire();
+
+        long start = System.nanoTime();
+        Step<String> step = Try.rateLimited(limiter, () -> "call");
+
+        assertThat(step.<Throwable>getException()).isExactlyInstanceOf(RateLimitExceededException.class);
+        assertThat(System.nanoTime() - start).isLessThan(TimeUnit.SECONDS.toNanos(1));
+    }
+
+    @Test
+    void givenAnAsyncCall_shouldScheduleItForItsPermit_withoutBlockingTheCaller() throws Exception {
+        RateLimiter limiter = RateLimiter.builder("test")
+                .limitForPeriod(1, Duration.ofMillis(100))
+                .timeout(Duration.ofSeconds(1))
+                .build();
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try {
+            long start = System.nanoTime();
+            Try.rateLimitedAsync(limiter, System::nanoTime, scheduler);
+            AsyncStep<Long> second = Try.rateLimitedAsync(limiter, System::nanoTime, scheduler);
+
+            assertThat(second.toCompletableFuture().isDone()).isFalse();
+            assertThat(second.toCompletableFuture().get(1, TimeUnit.SECONDS).get() - start)
+                    .isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(90));
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    void givenAnInterruptedWaiter_shouldGiveItsPermitBack() {
+        RateLimiter limiter = RateLimiter.builder("test")
+                .limitForPeriod(1, Duration.ofHours(1))
+                .timeout(Duration.ofMinutes(90))
+                .build();
+        limiter.tryAcquire();
+
+        for (int i = 0; i < 2; i++) {
+            Thread.currentThread().interrupt();
+            Step<String> step = Try.rateLimited(limiter, () -> "call");
+
+            assertThat(Thread.interrupted()).isTrue();
+            assertThat(step.<Throwable>getException()).isExactlyInstanceOf(InterruptedException.class);
+        }
+    }
+
+    @Test
+    void givenAnAsyncCallRejectedByTheScheduler_shouldGiveItsPermitBack() throws Exception {
+        RateLimiter limiter = RateLimiter.builder("test")
+                .limitForPeriod(1, Duration.ofHours(1))
+                .timeout(Duration.ofMinutes(90))
+                .build();
+        limiter.tryAcquire();
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        scheduler.shutdown();
+
+        for (int i = 0; i < 2; i++) {
+            Step<String> step = Try.rateLimitedAsync(limiter, () -> "call", scheduler).toCompletableFuture().get();
+
+            assertThat(step.<Throwable>getException()).isExactlyInstanceOf(RejectedExecutionException.class);
+        }
+    }
+
+    @Test
+    void givenConcurrentCallers_shouldGrantNoMoreThanTheBurst() throws Exception {
+        RateLimiter limiter = RateLimiter.builder("test").limitForPeriod(100, Duration.ofHours(1)).build();
+        AtomicInteger granted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            for (int i = 0; i < 8; i++) {
+                executor.execute(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    for (int j = 0; j < 1_000; j++) {
+                        if (limiter.tryAcquire()) {
+                            granted.incrementAndGet();
+                        }
+                    }
+                });
+            }
+            start.countDown();
+            executor.shutdown();
+            assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(granted).hasValue(100);
+    }
+
+    @Test
+    void givenAnInvalidRate_shouldThrowIllegalArgumentException() {
+        assertThatThrownBy(() -> RateLimiter.builder("test").limitForPeriod(0, Duration.ofSeconds(1)))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RateLimiter.builder("test").timeout(Duration.ofSeconds(-1)))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,115 @@
+package io.github.tiagobohnenberger.fntry;
+
+import java.io.EOFException;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+
+import io.github.tiagobohnenberger.fntry.util.DisplayNameGenerators;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayNameGeneration(DisplayNameGenerators.ReplaceCamelCase.class)
+class RecoveryTest {
+
+    private static final RecoveryTable<String> TABLE = RecoveryTable.<String>builder()
+            .on(IOException.class, e -> "io: " + e.getMessage())
+            .on(FileNotFoundException.class, e -> "not found")
+            .on(IllegalStateException.class, e -> {
+                throw new UnsupportedOperationException("handler");
+            })
+            .build();
+
+    @Test
+    void givenRecover_shouldRecoverFromTheTypeAndItsSubtypes() {
+        Step<Integer> step = Try.of(() -> Integer.parseInt("x"))
+                .recover(IllegalArgumentException.class, e -> -1);
+
+        assertThat(step.isFailed()).isFalse();
+        assertThat(step.get()).isEqualTo(-1);
+    }
+
+    @Test
+    void givenRecoverOfAnotherType_shouldKeepTheFailure() {
+        Step<Integer> failed = Try.of(() -> Integer.parseInt("x"));
+
+        assertThat(failed.recover(IOException.class, e -> -1)).isSameAs(failed);
+        assertThat(Step.with(1).recover(RuntimeException.class, e -> -1).get()).isEqualTo(1);
+    }
+
+    @Test
+    void givenAFailingRecovery_shouldFailWithItsException() {
+        Step<String> step = Try.<String>of(() -> {
+            throw new IllegalStateException();
+        }).recoverWith(TABLE);
+
+        assertThat(step.isFailed()).isTrue();
+        assertThat(step.<Throwable>getException()).isExactlyInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void givenATable_shouldDispatchToTheMostSpecificHandler() {
+        assertThat(this.failingWith(new FileNotFoundException("a")).recoverWith(TABLE).get()).isEqualTo("not found");
+        assertThat(this.failingWith(new EOFException("b")).recoverWith(TABLE).get()).isEqualTo("io: b");
+        assertThat(TABLE.handles(EOFException.class)).isTrue();
+        assertThat(TABLE.handles(UncheckedIOException.class)).isFalse();
+    }
+
+    @Test
+    void givenATableWithoutAHandler_shouldKeepTheFailure() {
+        Step<String> failed = this.failingWith(new UncheckedIOException(new IOException()));
+
+        assertThat(failed.recoverWith(TABLE)).isSameAs(failed);
+    }
+
+    @Test
+    void givenAReusableStep_shouldRecoverInPlace() {
+        Step<Integer> step = Step.reusable(1);
+
+        Step<Integer> recovered = step.apply(i -> {
+            throw new EOFException();
+        }).recover(IOException.class, e -> 2);
+
+        assertThat(recovered).isSameAs(step);
+        assertThat(recovered.isFailed()).isFalse();
+        assertThat(recovered.get()).isEqualTo(2);
+    }
+
+    @Test
+    void givenLazyAndDeadlineSteps_shouldKeepTheirType() {
+        LazyStep<Integer> lazy = Try.lazy(() -> Integer.parseInt("x"))
+                .recover(NumberFormatException.class, e -> -1);
+        DeadlineStep<Integer> deadline = Try.of(() -> Integer.parseInt("x"), Duration.ofSeconds(1))
+                .recover(NumberFormatException.class, e -> -1);
+
+        assertThat(lazy.isEvaluated()).isFalse();
+        assertThat(lazy.get()).isEqualTo(-1);
+        assertThat(deadline.get()).isEqualTo(-1);
+    }
+
+    @Test
+    void givenAResult_shouldRecoverWithTheDefaultMethods() {
+        Result<Integer> validation = Validation.<Integer>invalid("quantity", "must be positive")
+                .recover(ValidationException.class, e -> e.getViolations().size());
+
+        assertThat(validation.get()).isEqualTo(1);
+    }
+
+    @Test
+    void givenADuplicateHandler_shouldThrowIllegalArgumentException() {
+        RecoveryTable.Builder<String> builder = RecoveryTable.<String>builder().on(IOException.class, e -> "");
+
+        assertThatThrownBy(() -> builder.on(IOException.class, e -> ""))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Step<String> failingWith(Exception e) {
+        return Try.of(() -> {
+            throw e;
+        });
+    }
+}
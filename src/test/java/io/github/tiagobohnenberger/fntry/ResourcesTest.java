@@ -0,0 +1,171 @@
+package io.github.tiagobohnenberger.fntry;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.github.tiagobohnenberger.fntry.util.DisplayNameGenerators;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayNameGeneration(DisplayNameGenerators.ReplaceCamelCase.class)
+class ResourcesTest {
+
+    @Test
+    void givenUsing_shouldApplyTheFunction_andCloseTheResource() {
+        Resource resource = new Resource(null);
+
+        Step<String> step = Try.using(() -> resource, Resource::read);
+
+        assertThat(step.get()).isEqualTo("content");
+        assertThat(resource.closed).hasValue(1);
+    }
+
+    @Test
+    void givenUsingAFailingFunction_shouldCloseTheResource_andSuppressTheCloseFailure() {
+        IOException closeFailure = new IOException("close");
+        Resource resource = new Resource(closeFailure);
+
+        Step<String> step = Try.using(() -> resource, r -> {
+            throw new IllegalStateException("read");
+        });
+
+        assertThat(step.<Throwable>getException())
+                .isExactlyInstanceOf(IllegalStateException.class)
+                .hasSuppressedException(closeFailure);
+        assertThat(resource.closed).hasValue(1);
+    }
+
+    @Test
+    void givenUsingAResourceThatFailsToClose_shouldFailWithTheCloseFailure() {
+        IOException closeFailure = new IOException("close");
+
+        Step<String> step = Try.using(() -> new Resource(closeFailure), Resource::read);
+
+        assertThat(step.<Throwable>getException()).isSameAs(closeFailure);
+    }
+
+    @Test
+    void givenUsingAResourceThatFailsToOpen_shouldNotApplyTheFunction() {
+        AtomicInteger applied = new AtomicInteger();
+
+        Step<Integer> step = Try.<Resource, Integer>using(() -> {
+            throw new IOException("open");
+        }, r -> applied.incrementAndGet());
+
+        assertThat(step.isFailed()).isTrue();
+        assertThat(applied).hasValue(0);
+    }
+
+    @Test
+    void givenAPool_shouldReuseTheResources() {
+        AtomicInteger created = new AtomicInteger();
+        ResourcePool<Resource> pool = ResourcePool.of(() -> {
+            created.incrementAndGet();
+            return new Resource(null);
+        }, 2);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(Try.using(pool, Resource::read).get()).isEqualTo("content");
+        }
+
+        assertThat(created).hasValue(1);
+        assertThat(pool.getIdleCount()).isEqualTo(1);
+    }
+
+    @Test
+    void givenAPool_shouldCloseTheResourceOfAFailedFunction() {
+        Resource resource = new Resource(null);
+        ResourcePool<Resource> pool = ResourcePool.of(() -> resource, 2);
+
+        Step<String> step = pool.use(r -> {
+            throw new IllegalStateException();
+        });
+
+        assertThat(step.isFailed()).isTrue();
+        assertThat(resource.closed).hasValue(1);
+        assertThat(pool.getIdleCount()).isZero();
+    }
+
+    @Test
+    void givenAPoolUnderConcurrency_shouldKeepNoMoreThanItsCapacity_andNeverShareAResource() throws Exception {
+        AtomicInteger created = new AtomicInteger();
+        ResourcePool<Resource> pool = ResourcePool.of(() -> {
+            created.incrementAndGet();
+            return new Resource(null);
+        }, 4);
+        Set<Resource> inUse = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Step<Boolean>>> futures = new ArrayList<>();
+            for (int i = 0; i < 1_000; i++) {
+                futures.add(executor.submit(() -> pool.use(r -> {
+                    boolean exclusive = inUse.add(r);
+                    Thread.yield();
+                    inUse.remove(r);
+                    return exclusive;
+                })));
+            }
+            for (Future<Step<Boolean>> future : futures) {
+                assertThat(future.get(5, TimeUnit.SECONDS).get()).isTrue();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(pool.getIdleCount()).isBetween(1, 4);
+        assertThat(created.get()).isLessThan(1_000);
+    }
+
+    @Test
+    void givenAClosedPool_shouldCloseTheIdleResources_andTheResourcesReturnedAfterward() throws Exception {
+        Resource idle = new Resource(null);
+        ResourcePool<Resource> pool = ResourcePool.of(() -> idle, 2);
+        pool.use(Resource::read);
+
+        pool.close();
+
+        assertThat(idle.closed).hasValue(1);
+        assertThat(pool.getIdleCount()).isZero();
+        assertThat(pool.use(Resource::read).get()).isEqualTo("content");
+        assertThat(idle.closed).hasValue(2);
+    }
+
+    @Test
+    void givenANonPositiveCapacity_shouldThrowIllegalArgumentException() {
+        assertThatThrownBy(() -> ResourcePool.of(() -> new Resource(null), 0))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static final class Resource implements AutoCloseable {
+
+        final AtomicInteger closed = new AtomicInteger();
+        final IOException closeFailure;
+
+        Resource(IOException closeFailure) {
+            this.closeFailure = closeFailure;
+        }
+
+        String read() {
+            return "content";
+        }
+
+        @Override
+        public void close() throws IOException {
+            closed.incrementAndGet();
+            if (closeFailure != null) {
+                throw closeFailure;
+            }
+        }
+    }
+}
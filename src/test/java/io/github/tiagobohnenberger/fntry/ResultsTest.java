@@ -0,0 +1,149 @@
+package io.github.tiagobohnenberger.fntry;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import io.github.tiagobohnenberger.fntry.util.DisplayNameGenerators;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayNameGeneration(DisplayNameGenerators.ReplaceCamelCase.class)
+class ResultsTest {
+
+    private static final List<String> INPUT = Arrays.asList("1", "two", "3", null, "five");
+
+    @Test
+    void givenPartitioning_shouldKeepTheValueOrTheExceptionOfEachElementInOrder() {
+        BatchResult<Integer> batch = INPUT.stream().collect(FnTryCollectors.partitioning(Integer::parseInt));
+
+        assertThat(batch.size()).isEqualTo(5);
+        assertThat(batch.getSuccesses()).containsExactly(1, 3);
+        assertThat(batch.getFailures())
+                .hasSize(3)
+                .allMatch(NumberFormatException.class::isInstance);
+    }
+
+    @Test
+    void givenPartitioningInParallel_shouldKeepTheEncounterOrder() {
+        List<String> input = IntStream.range(0, 10_000)
+                .mapToObj(i -> i % 7 == 0 ? "x" + i : String.valueOf(i))
+                .collect(Collectors.toList());
+
+        BatchResult<Integer> batch = input.parallelStream().collect(FnTryCollectors.partitioning(Integer::parseInt));
+
+        assertThat(batch.size()).isEqualTo(10_000);
+        assertThat(batch.getFailureCount()).isEqualTo(1_429);
+        for (int i = 0; i < batch.size(); i++) {
+            assertThat(batch.isFailed(i)).isEqualTo(i % 7 == 0);
+            if (!batch.isFailed(i)) {
+                assertThat(batch.get(i)).isEqualTo(i);
+            }
+        }
+    }
+
+    @Test
+    void givenPartitioningResults_shouldKeepTheValueOrTheExceptionOfEachResult() {
+        BatchResult<Integer> batch = Stream.of(Step.with(1), Step.<Integer>failed(new IllegalStateException()))
+                .collect(FnTryCollectors.partitioningResults());
+
+        assertThat(batch.get(0)).isEqualTo(1);
+        assertThat(batch.<Throwable>getException(1)).isExactlyInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void givenPartitioningResults_shouldKeepAFailedResultWithoutAnException_asFailed() {
+        Result<Integer> failed = mock(Result.class);
+        when(failed.isFailed()).thenReturn(true);
+
+        BatchResult<Integer> batch = Stream.of(Step.with(1), failed).collect(FnTryCollectors.partitioningResults());
+
+        assertThat(batch.getFailureCount()).isEqualTo(1);
+        assertThat(batch.isFailed(1)).isTrue();
+        assertThat(batch.getResult(1).<Throwable>getException()).isExactlyInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void givenSummingLong_shouldSumTheSuccessesAndCountTheFailures() {
+        Reduction<Long> sum = IntStream.range(0, 1_000).boxed().parallel()
+                .collect(FnTryCollectors.summingLong(i -> {
+                    if (i % 10 == 0) {
+                        throw new IllegalArgumentException();
+                    }
+                    return i;
+                }));
+
+        assertThat(sum.get()).isEqualTo(499_500L - 49_500L);
+        assertThat(sum.getSuccessCount()).isEqualTo(900);
+        assertThat(sum.getFailureCount()).isEqualTo(100);
+        assertThat(sum.isFailed()).isTrue();
+    }
+
+    @Test
+    void givenReducing_shouldReduceTheSuccessesFromTheIdentity() {
+        Reduction<String> reduction = INPUT.stream()
+                .collect(FnTryCollectors.reducing("", String::trim, String::concat));
+
+        assertThat(reduction.get()).isEqualTo("1two3five");
+        assertThat(reduction.getFailureCount()).isEqualTo(1);
+    }
+
+    @Test
+    void givenTraverse_shouldStopAtTheFirstFailure() {
+        AtomicInteger applied = new AtomicInteger();
+
+        Step<List<Integer>> step = Results.traverse(INPUT.stream(), s -> {
+            applied.incrementAndGet();
+            return Integer.parseInt(s);
+        });
+
+        assertThat(step.isFailed()).isTrue();
+        assertThat(step.<Throwable>getException()).isExactlyInstanceOf(NumberFormatException.class);
+        assertThat(applied).hasValue(2);
+    }
+
+    @Test
+    void givenTraverse_shouldCollectEveryValueWhenNoneFails() {
+        Step<List<Integer>> step = Results.traverse(Stream.of("1", "2", "3"), Integer::parseInt);
+
+        assertThat(step.get()).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void givenSequence_shouldFailWithTheFirstFailedResult() {
+        IllegalStateException e = new IllegalStateException();
+
+        Step<List<Integer>> step = Results.sequence(Stream.of(Step.with(1), Step.failed(e), Step.with(3)));
+
+        assertThat(step.<Throwable>getException()).isSameAs(e);
+    }
+
+    @Test
+    void givenStream_shouldStreamTheValueOfASuccessfulResultOnly() {
+        List<Integer> ports = INPUT.stream()
+                .map(s -> Try.of(() -> Integer.parseInt(s)))
+                .flatMap(Results::stream)
+                .collect(Collectors.toList());
+
+        assertThat(ports).containsExactly(1, 3);
+        assertThat(Results.stream(Step.with(1)).spliterator().hasCharacteristics(Spliterator.SIZED)).isTrue();
+    }
+
+    @Test
+    void givenSuccessesAndFailures_shouldFilterTheResults() {
+        List<Result<Integer>> results = Arrays.asList(Step.with(1), Step.failed(new IllegalStateException()));
+
+        assertThat(Results.successes(results.stream())).containsExactly(1);
+        assertThat(Results.failures(results.stream())).hasSize(1);
+    }
+}
@@ -0,0 +1,128 @@
+package io.github.tiagobohnenberger.fntry;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.github.tiagobohnenberger.fntry.util.DisplayNameGenerators;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayNameGeneration(DisplayNameGenerators.ReplaceCamelCase.class)
+class RetryTest {
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final AtomicInteger attempts = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    void givenRetrying_shouldReturnTheFirstSuccess_whenAttemptsFailBeforeIt() {
+        Step<String> step = Try.retrying(policy(3).build(), () -> failTimes(2));
+
+        assertThat(step.isFailed()).isFalse();
+        assertThat(step.get()).isEqualTo("attempt 3");
+    }
+
+    @Test
+    void givenRetrying_shouldReturnTheLastFailure_whenEveryAttemptFails() {
+        Step<String> step = Try.retrying(policy(3).build(), () -> failTimes(5));
+
+        assertThat(step.isFailed()).isTrue();
+        assertThat(step.<Throwable>getException()).hasMessage("failure 3");
+        assertThat(attempts).hasValue(3);
+    }
+
+    @Test
+    void givenRetrying_shouldNotRetry_whenTheExceptionIsNotRetryable() {
+        Step<String> step = Try.retrying(policy(3).retryOn(IllegalStateException.class).build(),
+                () -> failTimes(5));
+
+        assertThat(step.isFailed()).isTrue();
+        assertThat(attempts).hasValue(1);
+    }
+
+    @Test
+    void givenRetrying_shouldStopRetrying_whenTheBudgetIsSpent() {
+        RetryBudget budget = RetryBudget.of(4, 0.5);
+        RetryPolicy policy = policy(10).budget(budget).build();
+
+        Try.retrying(policy, () -> failTimes(100));
+
+        assertThat(attempts).hasValue(2);
+        assertThat(budget.getTokens()).isEqualTo(2);
+    }
+
+    @Test
+    void givenRetryBudget_shouldAllowRetriesAgain_whenCallsSucceed() {
+        RetryBudget budget = RetryBudget.of(4, 1);
+        RetryPolicy policy = policy(10).budget(budget).build();
+        Try.retrying(policy, () -> failTimes(100));
+
+        Try.retrying(policy, () -> "success");
+
+        assertThat(budget.getTokens()).isEqualTo(3);
+    }
+
+    @Test
+    void givenRetryingAsync_shouldReturnTheFirstSuccess_whenAttemptsFailBeforeIt() {
+        String result = Try.retryingAsync(policy(3).build(), () -> failTimes(2), scheduler)
+                .map(String::toUpperCase)
+                .orElse("fallback")
+                .join();
+
+        assertThat(result).isEqualTo("ATTEMPT 3");
+    }
+
+    @Test
+    void givenRetryingAsync_shouldReturnTheLastFailure_whenEveryAttemptFails() {
+        Step<String> step = Try.retryingAsync(policy(2).build(), () -> failTimes(5), scheduler).join();
+
+        assertThat(step.<Throwable>getException()).hasMessage("failure 2");
+    }
+
+    @ParameterizedTest
+    @EnumSource(RetryPolicy.Jitter.class)
+    void givenAnyJitter_delayShouldStayWithinTheBackoffBounds(RetryPolicy.Jitter jitter) {
+        RetryPolicy policy = RetryPolicy.builder()
+                .maxAttempts(10)
+                .backoff(Duration.ofNanos(100), Duration.ofNanos(1000))
+                .jitter(jitter)
+                .build();
+
+        long delay = 0;
+        for (int attempt = 1; attempt < 10; attempt++) {
+            delay = policy.nextDelayNanos(attempt, delay);
+            assertThat(delay).isBetween(0L, 1000L);
+        }
+        assertThat(RetryPolicy.builder().backoff(Duration.ofNanos(100), Duration.ofNanos(1000))
+                .jitter(RetryPolicy.Jitter.NONE).build()
+                .nextDelayNanos(3, 0)).isEqualTo(400);
+    }
+
+    // ---- private methods
+
+    private static RetryPolicy.Builder policy(int maxAttempts) {
+        return RetryPolicy.builder()
+                .maxAttempts(maxAttempts)
+                .backoff(Duration.ofMillis(1), Duration.ofMillis(5));
+    }
+
+    private String failTimes(int failures) throws IOException {
+        int attempt = attempts.incrementAndGet();
+        if (attempt <= failures) {
+            throw new IOException("failure " + attempt);
+        }
+        return "attempt " + attempt;
+    }
+}
@@ -0,0 +1,97 @@
+package io.github.tiagobohnenberger.fntry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.github.tiagobohnenberger.fntry.util.DisplayNameGenerators;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayNameGeneration(DisplayNameGenerators.ReplaceCamelCase.class)
+class SingleFlightTest {
+
+    @Test
+    void givenConcurrentCallers_shouldRunTheTryOnce_andShareItsFailure() throws Exception {
+        SingleFlight flights = new SingleFlight();
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Step<String>>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> flights.<String>run("key", () -> {
+                    calls.incrementAndGet();
+                    release.await();
+                    throw new IllegalStateException("boom");
+                })));
+            }
+            Thread.sleep(100);
+            release.countDown();
+
+            Throwable failure = futures.get(0).get().getException();
+            for (Future<Step<String>> future : futures) {
+                assertThat(future.get().<Throwable>getException()).isSameAs(failure);
+            }
+            assertThat(calls).hasValue(1);
+            assertThat(flights.size()).isZero();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void givenSequentialCallers_shouldRunTheTryEachTime() {
+        SingleFlight flights = new SingleFlight();
+        AtomicInteger calls = new AtomicInteger();
+
+        flights.run("key", calls::incrementAndGet);
+        Step<Integer> step = flights.run("key", calls::incrementAndGet);
+
+        assertThat(step.get()).isEqualTo(2);
+        assertThat(flights.size()).isZero();
+    }
+
+    @Test
+    void givenARecursiveCallOfTheSameKey_shouldFailInsteadOfWaitingForItself() {
+        SingleFlight flights = new SingleFlight();
+
+        Step<Integer> step = flights.run("key", () -> flights.<Integer>run("key", () -> 1).orElse(-1));
+
+        assertThat(step.get()).isEqualTo(-1);
+        assertThat(flights.size()).isZero();
+    }
+
+    @Test
+    void givenRunAsync_shouldCompleteWithTheTryInFlight() throws Exception {
+        SingleFlight flights = new SingleFlight();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            String value = flights.runAsync("key", () -> "value", executor).orElse("").get();
+
+            assertThat(value).isEqualTo("value");
+            assertThat(flights.size()).isZero();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void givenRunAsync_shouldFail_whenTheExecutorRejectsTheTry() throws Exception {
+        SingleFlight flights = new SingleFlight();
+
+        Throwable failure = flights.runAsync("key", () -> "value", command -> {
+            throw new RejectedExecutionException();
+        }).toCompletableFuture().get().getException();
+
+        assertThat(failure).isExactlyInstanceOf(RejectedExecutionException.class);
+        assertThat(flights.size()).isZero();
+    }
+}
@@ -0,0 +1,57 @@
+package io.github.tiagobohnenberger.fntry;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.LongStream;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscription;
+import org.reactivestreams.example.unicast.AsyncIterablePublisher;
+import org.reactivestreams.tck.PublisherVerification;
+import org.reactivestreams.tck.TestEnvironment;
+import org.testng.annotations.AfterClass;
+
+/**
+ * Verifies the concurrent {@link TryPublisher} against the Reactive Streams TCK.
+ */
+public class TryPublisherTckTest extends PublisherVerification<Result<Long>> {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    public TryPublisherTckTest() {
+        super(new TestEnvironment());
+    }
+
+    @AfterClass
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Override
+    public Publisher<Result<Long>> createPublisher(long elements) {
+        Publisher<Long> source = new AsyncIterablePublisher<>(() -> LongStream.range(0, elements).iterator(), executor);
+        return TryPublisher.of(source, i -> {
+            if (i % 3 == 0) {
+                throw new IllegalArgumentException();
+            }
+            return i;
+        }, 4, executor);
+    }
+
+    @Override
+    public Publisher<Result<Long>> createFailedPublisher() {
+        Publisher<Long> source = subscriber -> {
+            subscriber.onSubscribe(new Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onError(new IllegalStateException("failed upstream"));
+        };
+        return TryPublisher.of(source, i -> i, 4, executor);
+    }
+}
@@ -0,0 +1,181 @@
+package io.github.tiagobohnenberger.fntry;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import io.github.tiagobohnenberger.fntry.util.DisplayNameGenerators;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.reactivestreams.example.unicast.AsyncIterablePublisher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayNameGeneration(DisplayNameGenerators.ReplaceCamelCase.class)
+class TryPublisherTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void givenAFailingFunction_shouldPublishAFailedStep_andKeepTheStream() throws Exception {
+        Recorder<Integer> recorder = new Recorder<>(Long.MAX_VALUE);
+
+        TryPublisher.of(this.range(5), this::evenOnly).subscribe(recorder);
+
+        recorder.await();
+        assertThat(recorder.values()).containsExactly(0, null, 2, null, 4);
+        assertThat(recorder.results.get(1).<Throwable>getException()).isExactlyInstanceOf(IllegalArgumentException.class);
+        assertThat(recorder.error).isNull();
+    }
+
+    @Test
+    void givenConcurrency_shouldApplyUpToThatManyElementsAtOnce_andKeepTheirOrder() throws Exception {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        Recorder<Integer> recorder = new Recorder<>(Long.MAX_VALUE);
+
+        TryPublisher.of(this.range(200), i -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            Thread.sleep(ThreadLocalRandom.current().nextInt(3));
+            inFlight.decrementAndGet();
+            return this.evenOnly(i);
+        }, 4, executor).subscribe(recorder);
+
+        recorder.await();
+        assertThat(recorder.values()).containsExactlyElementsOf(IntStream.range(0, 200)
+                .mapToObj(i -> i % 2 == 0 ? i : null)
+                .collect(Collectors.toList()));
+        assertThat(maxInFlight.get()).isBetween(1, 4);
+    }
+
+    @Test
+    void givenConcurrency_shouldOnlyPublishTheRequestedResults() throws Exception {
+        Recorder<Integer> recorder = new Recorder<>(2);
+
+        TryPublisher.of(this.range(10), i -> i, 4, executor).subscribe(recorder);
+
+        Thread.sleep(100);
+        assertThat(recorder.values()).containsExactly(0, 1);
+
+        recorder.subscription.request(8);
+        recorder.await();
+        assertThat(recorder.values()).hasSize(10);
+    }
+
+    @Test
+    void givenAnUpstreamError_shouldSignalItAfterThePendingResults() throws Exception {
+        IllegalStateException failure = new IllegalStateException();
+        Publisher<Integer> source = subscriber -> subscriber.onSubscribe(new Subscription() {
+            private boolean published;
+
+            @Override
+            public void request(long n) {
+                if (!published) {
+                    published = true;
+                    subscriber.onNext(1);
+                    subscriber.onNext(2);
+                    subscriber.onError(failure);
+                }
+            }
+
+            @Override
+            public void cancel() {
+            }
+        });
+        Recorder<Integer> recorder = new Recorder<>(Long.MAX_VALUE);
+
+        TryPublisher.of(source, i -> i * 10, 4, executor).subscribe(recorder);
+
+        recorder.await();
+        assertThat(recorder.values()).containsExactly(10, 20);
+        assertThat(recorder.error).isSameAs(failure);
+    }
+
+    @Test
+    void givenANonPositiveRequest_shouldSignalAnError() throws Exception {
+        Recorder<Integer> recorder = new Recorder<>(0);
+
+        TryPublisher.of(this.range(10), i -> i, 4, executor).subscribe(recorder);
+
+        recorder.await();
+        assertThat(recorder.error).isExactlyInstanceOf(IllegalArgumentException.class);
+        assertThat(recorder.results).isEmpty();
+    }
+
+    @Test
+    void givenANonPositiveConcurrency_shouldThrowIllegalArgumentException() {
+        assertThatThrownBy(() -> TryPublisher.of(this.range(1), i -> i, 0, executor))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Publisher<Integer> range(int count) {
+        return new AsyncIterablePublisher<>(IntStream.range(0, count).boxed().collect(Collectors.toList()), executor);
+    }
+
+    private Integer evenOnly(Integer i) {
+        if (i % 2 != 0) {
+            throw new IllegalArgumentException("odd: " + i);
+        }
+        return i;
+    }
+
+    private static final class Recorder<T> implements Subscriber<Result<T>> {
+
+        final List<Result<T>> results = new CopyOnWriteArrayList<>();
+        final CountDownLatch terminated = new CountDownLatch(1);
+        final long initialRequest;
+        volatile Subscription subscription;
+        volatile Throwable error;
+
+        Recorder(long initialRequest) {
+            this.initialRequest = initialRequest;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(initialRequest);
+        }
+
+        @Override
+        public void onNext(Result<T> result) {
+            results.add(result);
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            this.error = e;
+            terminated.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            terminated.countDown();
+        }
+
+        void await() throws InterruptedException {
+            assertThat(terminated.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+
+        List<T> values() {
+            return results.stream().map(result -> result.orElse((T) null)).collect(Collectors.toList());
+        }
+    }
+}
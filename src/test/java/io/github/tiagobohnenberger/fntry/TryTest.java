@@ -519,6 +519,56 @@ class TryTest {
                 .is(foo(dummyValueIs(3)));
     }
 
+    @Test
+    void givenTryOfReusable_shouldReuseTheSameStep_whenNoErrorOccurs() {
+        Step<Foo> step = Try.ofReusable(() -> new Foo(1));
+
+        Step<Foo> last = step
+                .apply(Foo::copy)
+                .consume(Consumers::println)
+                .filter(foo -> foo.getDummyValue() == 1);
+
+        assertThat(last).isSameAs(step);
+        assertThat(last.map(Foo::toBarSameValue)).isSameAs(step)
+                .extracting(Result::get)
+                .is(bar(fieldValueIs(1)));
+    }
+
+    @Test
+    void givenTryOfReusable_shouldReturnFallbackValue_whenAnErrorOnAnyStepOccurs() {
+        // @formatter:off
+        Bar _bar = Try.ofReusable(() -> new Foo(1))
+                .apply(foo -> new Foo(10))
+                .consume(Consumers::exceptionally)
+                .apply(Foo::copy)
+                .map(Foo::toBarSameValue)
+                .orElseGet(() -> new Bar(300));
+
+        assertThat(_bar).is(
+                bar(
+                  fieldValueIs(300)));
+        // @formatter:on
+    }
+
+    @Test
+    void givenTryOfReusable_resultShouldBeFailure_whenInitialOperationThrows() {
+        Result<Foo> result = Try.ofReusable(Suppliers::newFooExceptionally)
+                .apply(Foo::copy);
+
+        assertThat(result).is(failure())
+                .extracting(Result::getException).isExactlyInstanceOf(Throwable.class);
+    }
+
+    @Test
+    void givenReusableStep_valueShouldBeSameAsBefore_whenApplyFails() {
+        Result<Foo> result = Step.reusable(new Foo(1))
+                .apply(Functions::toStringExceptionally).getResult();
+
+        assertThat(result).is(failure())
+                .extracting(Result::get)
+                .extracting(Foo::getDummyValue).isEqualTo(1);
+    }
+
     // ---- private methods
 
     private static Condition<? super Result<?>> failure() {
@@ -0,0 +1,96 @@
+package io.github.tiagobohnenberger.fntry;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.github.tiagobohnenberger.fntry.util.DisplayNameGenerators;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayNameGeneration(DisplayNameGenerators.ReplaceCamelCase.class)
+class ValidationTest {
+
+    @Test
+    void givenValidChecks_shouldCombineTheValues() {
+        Validation<String> validation = Validation.combine(
+                Validation.check("sku-1", s -> !s.isEmpty(), "sku", "must not be empty"),
+                Validation.check(2, q -> q > 0, "quantity", "must be positive"),
+                (sku, quantity) -> sku + " x" + quantity);
+
+        assertThat(validation.isFailed()).isFalse();
+        assertThat(validation.get()).isEqualTo("sku-1 x2");
+        assertThat(validation.getViolations()).isEmpty();
+        assertThat(validation.<Throwable>getException()).isNull();
+    }
+
+    @Test
+    void givenInvalidChecks_shouldAccumulateEveryViolationInOrder() {
+        Validation<String> validation = Validation.combine(
+                Validation.check("", s -> !s.isEmpty(), "sku", "must not be empty"),
+                Validation.check(1, q -> q > 0, "quantity", "must be positive"),
+                Validation.check(-5, p -> p >= 0, "price", "must not be negative"),
+                (sku, quantity, price) -> sku + quantity + price);
+
+        assertThat(validation.isFailed()).isTrue();
+        assertThat(validation.get()).isNull();
+        assertThat(validation.getViolations()).containsExactly(
+                Violation.of("sku", "must not be empty"),
+                Violation.of("price", "must not be negative"));
+    }
+
+    @Test
+    void givenAll_shouldAccumulateTheViolationsOfEveryValidation() {
+        Validation<Void> validation = Validation.all(
+                Validation.invalid("a"),
+                Validation.valid(1),
+                Validation.invalid(Arrays.asList(Violation.of("b"), Violation.of("field", "c"))));
+
+        assertThat(validation.getViolations()).extracting(Violation::toString).containsExactly("a", "b", "field: c");
+        assertThat(Validation.all(Validation.valid(1), Validation.valid(2)).isFailed()).isFalse();
+    }
+
+    @Test
+    void givenAnInvalidValidation_shouldApplyTheFallbacksWithAValidationException() {
+        Validation<Integer> validation = Validation.invalid("quantity", "must be positive");
+        AtomicReference<ValidationException> failure = new AtomicReference<>();
+
+        validation.otherwise(failure::set);
+
+        assertThat(validation.orElse(1)).isEqualTo(1);
+        assertThat(validation.orThen(i -> 2)).isEqualTo(2);
+        assertThat(failure.get().getViolations()).containsExactly(Violation.of("quantity", "must be positive"));
+        assertThat(failure.get()).isSameAs(validation.getException()).hasMessage("[quantity: must be positive]");
+        assertThat(failure.get().getStackTrace()).isEmpty();
+    }
+
+    @Test
+    void givenMapAndAndThen_shouldOnlyApplyToAValidValue() {
+        Validation<Integer> quantity = Validation.check("3", s -> s.matches("\\d+"), "quantity", "must be a number")
+                .map(Integer::parseInt)
+                .andThen(q -> Validation.check(q, i -> i < 10, "quantity", "must be less than 10"));
+
+        Validation<Integer> invalid = Validation.<String>invalid("quantity", "must be a number")
+                .map(Integer::parseInt);
+
+        assertThat(quantity.get()).isEqualTo(3);
+        assertThat(invalid.getViolations()).hasSize(1);
+    }
+
+    @Test
+    void givenAFailedResult_shouldBecomeAViolationWithItsMessage() {
+        Validation<Integer> validation = Validation.from(Try.of(() -> Integer.parseInt("x")), "quantity");
+
+        assertThat(validation.getViolations()).containsExactly(Violation.of("quantity", "For input string: \"x\""));
+        assertThat(Validation.from(Step.with(1), "quantity").get()).isEqualTo(1);
+    }
+
+    @Test
+    void givenNoViolations_shouldNotCreateAnInvalidValidation() {
+        assertThatThrownBy(() -> Validation.invalid(Collections.emptyList()))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+}
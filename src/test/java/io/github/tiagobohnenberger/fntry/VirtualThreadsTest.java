@@ -0,0 +1,41 @@
+package io.github.tiagobohnenberger.fntry;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import io.github.tiagobohnenberger.fntry.util.DisplayNameGenerators;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+
+@DisplayNameGeneration(DisplayNameGenerators.ReplaceCamelCase.class)
+class VirtualThreadsTest {
+
+    @Test
+    void givenThePlatformThreadFallback_shouldRejectTasksPastItsBound_andFailTheStep() {
+        // the Java 21 layer of the multi-release jar starts a virtual thread per task instead
+        assumeFalse(VirtualThreads.isSupported());
+        Executor executor = VirtualThreads.executor();
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            for (int i = 0; i < VirtualThreads.MAX_PLATFORM_THREADS; i++) {
+                executor.execute(() -> {
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+
+            Step<String> step = Try.ofVirtual(() -> "value").join();
+
+            assertThat(step.<Throwable>getException()).isInstanceOf(RejectedExecutionException.class);
+        } finally {
+            release.countDown();
+        }
+    }
+}
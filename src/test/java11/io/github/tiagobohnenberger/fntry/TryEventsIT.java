@@ -0,0 +1,82 @@
+package io.github.tiagobohnenberger.fntry;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import io.github.tiagobohnenberger.fntry.util.DisplayNameGenerators;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs against the packaged multi-release jar, where {@link TryEvents} is the Java 11 version.
+ */
+@DisplayNameGeneration(DisplayNameGenerators.ReplaceCamelCase.class)
+class TryEventsIT {
+
+    private static final String FAILED_STEP = "io.github.tiagobohnenberger.fntry.FailedStep";
+
+    @Test
+    void givenTheMultiReleaseJar_shouldLoadTheJava11VersionOfTheEvents() {
+        assertThat(TryEvents.class.getProtectionDomain().getCodeSource().getLocation().getPath()).endsWith(".jar");
+        assertThat(TryEvents.class.getDeclaredClasses()).isNotEmpty();
+    }
+
+    @Test
+    void givenSwallowedExceptions_shouldEmitOneFailedStepEach() throws Exception {
+        List<RecordedEvent> events = this.record(() -> {
+            Step<Integer> step = Try.of(() -> {
+                throw new Swallowed();
+            });
+            step.map(i -> i + 1).orElse(0);
+
+            IntResult intResult = Try.ofInt(() -> 1).map(i -> {
+                throw new Swallowed();
+            });
+            intResult.boxed().orElse(0);
+
+            BatchResult<Integer> batch = Try.mapAll(Collections.singletonList(1), i -> {
+                throw new Swallowed();
+            });
+            batch.getResult(0);
+            batch.getResult(0);
+        });
+
+        assertThat(events).hasSize(3);
+        assertThat(events).allSatisfy(event -> assertThat(event.getString("site")).startsWith(TryEventsIT.class.getName()));
+    }
+
+    @Test
+    void givenAFailedStepCreatedFromAnException_shouldEmitNothing() throws Exception {
+        List<RecordedEvent> events = this.record(() -> Step.failed(new Swallowed()).map(i -> i));
+
+        assertThat(events).isEmpty();
+    }
+
+    private List<RecordedEvent> record(Runnable body) throws Exception {
+        Path file = Files.createTempFile("fntry", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(FAILED_STEP);
+            recording.start();
+            body.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file).stream()
+                    .filter(event -> event.getEventType().getName().equals(FAILED_STEP))
+                    .filter(event -> event.getClass("exceptionClass").getName().equals(Swallowed.class.getName()))
+                    .collect(Collectors.toList());
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private static final class Swallowed extends RuntimeException {
+    }
+}
@@ -0,0 +1,43 @@
+package io.github.tiagobohnenberger.fntry;
+
+import java.time.Duration;
+
+import io.github.tiagobohnenberger.fntry.util.DisplayNameGenerators;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs against the packaged multi-release jar, where {@link VirtualThreads} is the Java 21 version.
+ */
+@DisplayNameGeneration(DisplayNameGenerators.ReplaceCamelCase.class)
+class VirtualThreadsIT {
+
+    @Test
+    void givenTheMultiReleaseJar_shouldSupportVirtualThreads() {
+        assertThat(VirtualThreads.isSupported()).isTrue();
+    }
+
+    @Test
+    void givenTryOfVirtual_shouldRunTheTryOnAVirtualThread() {
+        Step<Boolean> step = Try.ofVirtual(() -> Thread.currentThread().isVirtual()).join();
+
+        assertThat(step.get()).isTrue();
+    }
+
+    @Test
+    void givenTryJustVirtual_shouldRunTheOperationOnAVirtualThread() {
+        boolean[] virtual = new boolean[1];
+
+        Step<Void> step = Try.justVirtual(() -> virtual[0] = Thread.currentThread().isVirtual()).join();
+
+        assertThat(step.isFailed()).isFalse();
+        assertThat(virtual[0]).isTrue();
+    }
+
+    @Test
+    void givenADeadline_shouldRunTheTryOnAVirtualThread() {
+        assertThat(Try.of(() -> Thread.currentThread().isVirtual(), Duration.ofSeconds(5)).get()).isTrue();
+    }
+}